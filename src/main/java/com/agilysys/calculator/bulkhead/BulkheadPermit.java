@@ -0,0 +1,18 @@
+package com.agilysys.calculator.bulkhead;
+
+/**
+ * Slots held by one admitted request: a slot in its tenant's bulkhead and the global slot.
+ *
+ * @param tenant The tenant's dedicated bulkhead or its overflow partition
+ * @param global The global admission bulkhead
+ */
+public record BulkheadPermit(TenantBulkhead tenant, TenantBulkhead global) {
+
+    /**
+     * Releases the slots in the reverse order of acquisition.
+     */
+    public void release() {
+        global.release();
+        tenant.release();
+    }
+}
@@ -0,0 +1,91 @@
+package com.agilysys.calculator.bulkhead;
+
+import com.agilysys.calculator.config.BulkheadProperties.Limits;
+import com.agilysys.calculator.exception.BulkheadFullException;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrency bulkhead of a single tenant, or of all tenants for the global admission limit.
+ * At most {@code maxConcurrent} requests run at once; up to {@code maxQueued} more may wait
+ * for {@code queueTimeout}, and anything beyond that is rejected without waiting.
+ */
+public class TenantBulkhead {
+
+    private final String tenant;
+    private final Limits limits;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder rejectedQueueFull = new LongAdder();
+    private final LongAdder rejectedTimeout = new LongAdder();
+
+    public TenantBulkhead(String tenant, Limits limits) {
+        this.tenant = tenant;
+        this.limits = limits;
+        this.permits = new Semaphore(limits.maxConcurrent());
+    }
+
+    /**
+     * Acquires an execution slot, waiting up to the queue timeout.
+     * Every successful call must be paired with {@link #release()}.
+     *
+     * @throws BulkheadFullException if the queue is full or the timeout elapses
+     */
+    public void acquire() {
+        if (permits.tryAcquire()) {
+            return;
+        }
+        if (queued.incrementAndGet() > limits.maxQueued()) {
+            queued.decrementAndGet();
+            rejectedQueueFull.increment();
+            throw new BulkheadFullException("Too many concurrent requests for " + scope());
+        }
+        try {
+            if (!permits.tryAcquire(limits.queueTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                rejectedTimeout.increment();
+                throw new BulkheadFullException("Timed out waiting for capacity for " + scope());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            rejectedTimeout.increment();
+            throw new BulkheadFullException("Interrupted waiting for capacity for " + scope());
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public String tenant() {
+        return tenant;
+    }
+
+    public Limits limits() {
+        return limits;
+    }
+
+    public int activeCount() {
+        return limits.maxConcurrent() - permits.availablePermits();
+    }
+
+    public int queuedCount() {
+        return queued.get();
+    }
+
+    public long rejectedQueueFullCount() {
+        return rejectedQueueFull.sum();
+    }
+
+    public long rejectedTimeoutCount() {
+        return rejectedTimeout.sum();
+    }
+
+    private String scope() {
+        return TenantBulkheadRegistry.GLOBAL_TENANT.equals(tenant) ? "all tenants" : "tenant " + tenant;
+    }
+}
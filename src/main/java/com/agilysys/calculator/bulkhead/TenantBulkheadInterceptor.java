@@ -0,0 +1,37 @@
+package com.agilysys.calculator.bulkhead;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Admits each request through the bulkhead of the tenant named in the tenant header and the
+ * global admission bulkhead. Rejections surface as
+ * {@link com.agilysys.calculator.exception.BulkheadFullException}, which the global exception
+ * handler turns into a 429 response.
+ */
+@RequiredArgsConstructor
+public class TenantBulkheadInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = TenantBulkheadInterceptor.class.getName() + ".permit";
+
+    private final TenantBulkheadRegistry registry;
+    private final String tenantHeader;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        BulkheadPermit permit = registry.acquire(request.getHeader(tenantHeader));
+        request.setAttribute(PERMIT_ATTRIBUTE, permit);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof BulkheadPermit permit) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            permit.release();
+        }
+    }
+}
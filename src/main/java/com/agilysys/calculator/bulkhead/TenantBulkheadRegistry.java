@@ -0,0 +1,121 @@
+package com.agilysys.calculator.bulkhead;
+
+import com.agilysys.calculator.config.BulkheadProperties;
+import com.agilysys.calculator.config.BulkheadProperties.Limits;
+import com.agilysys.calculator.exception.BulkheadFullException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Holds the global admission bulkhead and the tenant bulkheads, all created up front.
+ * The default tenant and each configured tenant get a dedicated bulkhead; any other tenant id is
+ * hashed onto one of a fixed number of overflow partitions, so a client rotating through header
+ * values cannot claim more capacity, memory or metric series than the overflow partitions provide,
+ * and a single noisy unknown tenant only competes with the tenants that share its partition.
+ */
+@Slf4j
+public class TenantBulkheadRegistry {
+
+    static final String GLOBAL_TENANT = "global";
+    static final String OVERFLOW_TENANT = "overflow";
+
+    private final BulkheadProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final TenantBulkhead global;
+    private final TenantBulkhead[] overflow;
+    private final Map<String, TenantBulkhead> bulkheads;
+
+    public TenantBulkheadRegistry(BulkheadProperties properties, MeterRegistry meterRegistry) {
+        for (String tenant : properties.tenants().keySet()) {
+            if (tenant.equals(GLOBAL_TENANT) || tenant.startsWith(OVERFLOW_TENANT + "-")) {
+                throw new IllegalArgumentException("Tenant id '" + tenant + "' is reserved");
+            }
+            if (tenant.equals(properties.defaultTenant())) {
+                throw new IllegalArgumentException(
+                    "Configure the default tenant '" + tenant + "' with calculator.bulkhead.default-tenant-limits");
+            }
+        }
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.global = create(GLOBAL_TENANT, properties.global());
+        this.overflow = new TenantBulkhead[properties.overflowPartitions()];
+        for (int partition = 0; partition < overflow.length; partition++) {
+            overflow[partition] = create(OVERFLOW_TENANT + "-" + partition, properties.overflow());
+        }
+        Map<String, TenantBulkhead> dedicated = new HashMap<>();
+        dedicated.put(properties.defaultTenant(), create(properties.defaultTenant(), properties.defaultTenantLimits()));
+        properties.tenants().forEach((tenant, limits) -> dedicated.put(tenant, create(tenant, limits)));
+        this.bulkheads = Map.copyOf(dedicated);
+    }
+
+    /**
+     * Admits a request through its tenant's bulkhead and then the global bulkhead.
+     * The global bulkhead never queues; it only rejects if the tenant limits were configured to
+     * add up to more than the global limit.
+     *
+     * @param tenantHeader The raw header value, may be null
+     * @return The acquired slots, to be released when the request completes
+     * @throws BulkheadFullException if either bulkhead has no capacity left
+     */
+    public BulkheadPermit acquire(String tenantHeader) {
+        TenantBulkhead tenant = forTenant(tenantHeader);
+        tenant.acquire();
+        try {
+            global.acquire();
+        } catch (BulkheadFullException ex) {
+            tenant.release();
+            throw ex;
+        }
+        return new BulkheadPermit(tenant, global);
+    }
+
+    /**
+     * Returns the bulkhead for the given tenant header value.
+     *
+     * @param tenantHeader The raw header value, may be null for the default tenant
+     * @return The tenant's own bulkhead, or the overflow partition of an unconfigured tenant
+     */
+    public TenantBulkhead forTenant(String tenantHeader) {
+        String tenant = tenantHeader == null || tenantHeader.isBlank()
+            ? properties.defaultTenant() : tenantHeader.trim();
+        TenantBulkhead bulkhead = bulkheads.get(tenant);
+        return bulkhead != null ? bulkhead : overflow[Math.floorMod(tenant.hashCode(), overflow.length)];
+    }
+
+    public TenantBulkhead global() {
+        return global;
+    }
+
+    private TenantBulkhead create(String tenant, Limits limits) {
+        var bulkhead = new TenantBulkhead(tenant, limits);
+        log.info("Created bulkhead for tenant {}: {}", tenant, limits);
+        if (meterRegistry != null) {
+            Gauge.builder("calculator.bulkhead.active", bulkhead, TenantBulkhead::activeCount)
+                .description("Requests currently executing in the tenant's bulkhead")
+                .tag("tenant", tenant)
+                .register(meterRegistry);
+            Gauge.builder("calculator.bulkhead.queued", bulkhead, TenantBulkhead::queuedCount)
+                .description("Requests waiting for capacity in the tenant's bulkhead")
+                .tag("tenant", tenant)
+                .register(meterRegistry);
+            Gauge.builder("calculator.bulkhead.max.concurrent", bulkhead, b -> b.limits().maxConcurrent())
+                .description("Concurrency limit of the tenant's bulkhead")
+                .tag("tenant", tenant)
+                .register(meterRegistry);
+            FunctionCounter.builder("calculator.bulkhead.rejected", bulkhead, TenantBulkhead::rejectedQueueFullCount)
+                .description("Requests rejected by the tenant's bulkhead")
+                .tags("tenant", tenant, "reason", "queue_full")
+                .register(meterRegistry);
+            FunctionCounter.builder("calculator.bulkhead.rejected", bulkhead, TenantBulkhead::rejectedTimeoutCount)
+                .description("Requests rejected by the tenant's bulkhead")
+                .tags("tenant", tenant, "reason", "timeout")
+                .register(meterRegistry);
+        }
+        return bulkhead;
+    }
+}
@@ -0,0 +1,83 @@
+package com.agilysys.calculator.config;
+
+import com.agilysys.calculator.bulkhead.TenantBulkheadInterceptor;
+import com.agilysys.calculator.bulkhead.TenantBulkheadRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Per-tenant bulkhead configuration.
+ * The default tenant, each configured tenant and each overflow partition get their own concurrency
+ * limit and bounded wait queue on the calculator endpoints, so neither a tenant sending expensive
+ * requests nor a client inventing tenant ids can take capacity reserved for another tenant.
+ * Start-up fails if the tenant limits add up to more than the global limit, or if the bulkheads
+ * could hold more threads than the embedded server's worker pool provides.
+ */
+@Configuration
+@EnableConfigurationProperties(BulkheadProperties.class)
+@ConditionalOnProperty(prefix = "calculator.bulkhead", name = "enabled", matchIfMissing = true)
+public class BulkheadConfig implements WebMvcConfigurer {
+
+    private final BulkheadProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ObjectProvider<ServerProperties> serverProperties;
+
+    public BulkheadConfig(BulkheadProperties properties, ObjectProvider<MeterRegistry> meterRegistry,
+                          ObjectProvider<ServerProperties> serverProperties) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.serverProperties = serverProperties;
+    }
+
+    @Bean
+    public TenantBulkheadRegistry tenantBulkheadRegistry() {
+        if (properties.reservedConcurrent() > properties.maxConcurrent()) {
+            throw new IllegalStateException(String.format(
+                "Tenant bulkheads allow %d concurrent requests but calculator.bulkhead.max-concurrent is %d; "
+                    + "lower the default tenant's, overflow or tenants' max-concurrent",
+                properties.reservedConcurrent(), properties.maxConcurrent()));
+        }
+        Integer workerThreads = workerThreads(serverProperties.getIfAvailable());
+        if (workerThreads != null && properties.maxThreadsHeld() >= workerThreads) {
+            throw new IllegalStateException(String.format(
+                "Bulkheads can hold %d request threads but the server has only %d workers; lower "
+                    + "the default tenant's, overflow or tenants' max-concurrent or max-queued",
+                properties.maxThreadsHeld(), workerThreads));
+        }
+        return new TenantBulkheadRegistry(properties, meterRegistry.getIfAvailable());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new TenantBulkheadInterceptor(tenantBulkheadRegistry(), properties.tenantHeader()))
+            .addPathPatterns("/api/v1/calculator/**");
+    }
+
+    /**
+     * Returns the worker pool size of the servlet container on the classpath, if it is known.
+     */
+    private static Integer workerThreads(ServerProperties server) {
+        if (server == null) {
+            return null;
+        }
+        ClassLoader classLoader = BulkheadConfig.class.getClassLoader();
+        if (ClassUtils.isPresent("org.apache.catalina.startup.Tomcat", classLoader)) {
+            return server.getTomcat().getThreads().getMax();
+        }
+        if (ClassUtils.isPresent("org.eclipse.jetty.server.Server", classLoader)) {
+            return server.getJetty().getThreads().getMax();
+        }
+        if (ClassUtils.isPresent("io.undertow.Undertow", classLoader)) {
+            return server.getUndertow().getThreads().getWorker();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,84 @@
+package com.agilysys.calculator.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Configuration for per-tenant bulkheads on the calculator endpoints.
+ * Every request is admitted by exactly one tenant bulkhead: the default tenant's for requests without
+ * the header, a dedicated one for tenants listed under {@code tenants}, or one of the overflow
+ * partitions, chosen by hashing the tenant id, for everyone else. The tenant bulkheads' concurrency
+ * limits must add up to no more than the global limit, so a request its tenant admits never waits for
+ * another tenant's work.
+ *
+ * @param enabled Whether requests are isolated per tenant
+ * @param tenantHeader Request header identifying the tenant
+ * @param defaultTenant Tenant used for requests without the header
+ * @param maxConcurrent Maximum requests executing at the same time across all tenants
+ * @param defaultTenantLimits Limits of the default tenant's bulkhead
+ * @param overflow Limits of each overflow partition
+ * @param overflowPartitions Number of overflow partitions shared by tenants without their own entry
+ * @param tenants Tenants with a dedicated bulkhead, keyed by tenant id
+ */
+@ConfigurationProperties(prefix = "calculator.bulkhead")
+public record BulkheadProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("X-Tenant-Id") String tenantHeader,
+    @DefaultValue("default") String defaultTenant,
+    @DefaultValue("140") int maxConcurrent,
+    @DefaultValue Limits defaultTenantLimits,
+    @DefaultValue Limits overflow,
+    @DefaultValue("4") int overflowPartitions,
+    Map<String, Limits> tenants
+) {
+
+    /**
+     * Limits of a single tenant's bulkhead.
+     *
+     * @param maxConcurrent Maximum requests executing at the same time
+     * @param maxQueued Maximum requests waiting for a slot; further requests are rejected immediately
+     * @param queueTimeout Maximum time a request waits for a slot before it is rejected
+     */
+    public record Limits(
+        @DefaultValue("16") int maxConcurrent,
+        @DefaultValue("16") int maxQueued,
+        @DefaultValue("50ms") Duration queueTimeout
+    ) {}
+
+    public BulkheadProperties {
+        tenants = tenants != null ? Map.copyOf(tenants) : Map.of();
+        if (overflowPartitions < 1) {
+            throw new IllegalArgumentException("overflowPartitions must be at least 1");
+        }
+    }
+
+    /**
+     * Returns the limits of the global admission bulkhead. It never queues: as long as
+     * {@link #reservedConcurrent()} fits under {@code maxConcurrent}, it cannot be full when a
+     * tenant bulkhead admits a request.
+     */
+    public Limits global() {
+        return new Limits(maxConcurrent, 0, Duration.ZERO);
+    }
+
+    /**
+     * Returns the sum of the concurrency limits of the default tenant, every overflow partition
+     * and every configured tenant.
+     */
+    public int reservedConcurrent() {
+        return defaultTenantLimits.maxConcurrent() + overflowPartitions * overflow.maxConcurrent()
+            + tenants.values().stream().mapToInt(Limits::maxConcurrent).sum();
+    }
+
+    /**
+     * Returns the largest number of request threads the bulkheads can hold at once: everything
+     * executing in or queued in front of a tenant bulkhead.
+     */
+    public int maxThreadsHeld() {
+        return reservedConcurrent() + defaultTenantLimits.maxQueued() + overflowPartitions * overflow.maxQueued()
+            + tenants.values().stream().mapToInt(Limits::maxQueued).sum();
+    }
+}
@@ -0,0 +1,22 @@
+package com.agilysys.calculator.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * HTTP/2 (h2c) limits applied to the selected servlet container when {@code server.http2.enabled} is set.
+ *
+ * @param maxConcurrentStreams Streams a client may open on one connection, advertised in SETTINGS
+ * @param maxConcurrentStreamExecution Streams of one connection processed at the same time (Tomcat only);
+ *                                     the rest wait on the connection rather than holding worker threads
+ * @param keepAliveTimeout How long an idle h2 connection is kept open (Tomcat only; Jetty and Undertow
+ *                         close idle h2 connections after their connector idle timeout)
+ */
+@ConfigurationProperties(prefix = "calculator.http2")
+public record Http2Properties(
+    @DefaultValue("128") int maxConcurrentStreams,
+    @DefaultValue("128") int maxConcurrentStreamExecution,
+    @DefaultValue("60s") Duration keepAliveTimeout
+) {}
@@ -0,0 +1,29 @@
+package com.agilysys.calculator.config;
+
+import com.agilysys.calculator.jfr.JfrMappingJackson2HttpMessageConverter;
+import com.agilysys.calculator.jfr.JfrRecordingEndpoint;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * Java Flight Recorder configuration.
+ * Replaces Spring Boot's Jackson converter with one that records parse and serialize events,
+ * and registers the {@code jfr} Actuator endpoint.
+ */
+@Configuration
+@EnableConfigurationProperties(JfrProperties.class)
+public class JfrConfig {
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new JfrMappingJackson2HttpMessageConverter(objectMapper);
+    }
+
+    @Bean
+    public JfrRecordingEndpoint jfrRecordingEndpoint(JfrProperties properties) {
+        return new JfrRecordingEndpoint(properties);
+    }
+}
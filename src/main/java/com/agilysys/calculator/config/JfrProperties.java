@@ -0,0 +1,23 @@
+package com.agilysys.calculator.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Configuration for on-demand Java Flight Recorder recordings.
+ *
+ * @param threshold Minimum duration for Calculator API events to be recorded
+ * @param defaultDuration Recording length when the caller does not specify one
+ * @param maxDuration Upper bound on the recording length a caller may request
+ * @param maxSize Upper bound on the size of the recording kept on disk
+ */
+@ConfigurationProperties(prefix = "calculator.jfr")
+public record JfrProperties(
+    @DefaultValue("1ms") Duration threshold,
+    @DefaultValue("60s") Duration defaultDuration,
+    @DefaultValue("10m") Duration maxDuration,
+    @DefaultValue("100MB") DataSize maxSize
+) {}
@@ -0,0 +1,46 @@
+package com.agilysys.calculator.config;
+
+import com.agilysys.calculator.controller.MatrixJsonSizeLimitFilter;
+import com.agilysys.calculator.service.MatrixMemoryBudget;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * Matrix endpoint configuration.
+ * Matrix kernels run on their own bounded fork-join pool rather than the JVM-wide common pool,
+ * so large requests cannot take more than {@code calculator.matrix.parallelism} cores.
+ * JSON request bodies are bounded by {@code calculator.matrix.max-json-size}, and the heap held by
+ * matrices of all requests in flight by {@code calculator.matrix.memory-budget}.
+ */
+@Configuration
+@EnableConfigurationProperties(MatrixProperties.class)
+public class MatrixConfig {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ForkJoinPool matrixForkJoinPool(MatrixProperties properties) {
+        ForkJoinPool.ForkJoinWorkerThreadFactory threadFactory = pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("matrix-" + thread.getPoolIndex());
+            return thread;
+        };
+        return new ForkJoinPool(properties.effectiveParallelism(), threadFactory, null, false);
+    }
+
+    @Bean
+    public MatrixMemoryBudget matrixMemoryBudget(MatrixProperties properties) {
+        return new MatrixMemoryBudget(
+            properties.effectiveMemoryBudget().toBytes() / Double.BYTES, properties.memoryBudgetTimeout());
+    }
+
+    @Bean
+    public FilterRegistrationBean<MatrixJsonSizeLimitFilter> matrixJsonSizeLimitFilter(MatrixProperties properties) {
+        var registration = new FilterRegistrationBean<>(new MatrixJsonSizeLimitFilter(properties.maxJsonSize()));
+        registration.addUrlPatterns("/api/v1/calculator/matrix");
+        return registration;
+    }
+}
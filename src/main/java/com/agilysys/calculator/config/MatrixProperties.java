@@ -0,0 +1,45 @@
+package com.agilysys.calculator.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the matrix endpoints.
+ *
+ * @param maxElements Maximum number of elements in any operand or result matrix
+ * @param maxJsonSize Maximum body size of a JSON matrix request; larger matrices must use the binary format
+ * @param maxMultiplyOps Maximum multiply-add count {@code n * k * m} of a single multiplication
+ * @param maxSolveOps Maximum {@code n^3} of a single solve with an n x n coefficient matrix
+ * @param parallelism Threads of the dedicated matrix pool; 0 uses half of the available processors
+ * @param memoryBudget Heap that operands, results and working copies of all matrix requests in flight may
+ *     hold together; 0 uses a quarter of the maximum heap
+ * @param memoryBudgetTimeout Maximum time a request waits for room in the memory budget before it is rejected
+ */
+@ConfigurationProperties(prefix = "calculator.matrix")
+public record MatrixProperties(
+    @DefaultValue("4194304") int maxElements,
+    @DefaultValue("16MB") DataSize maxJsonSize,
+    @DefaultValue("1073741824") long maxMultiplyOps,
+    @DefaultValue("1073741824") long maxSolveOps,
+    @DefaultValue("0") int parallelism,
+    @DefaultValue("0") DataSize memoryBudget,
+    @DefaultValue("1s") Duration memoryBudgetTimeout
+) {
+
+    /**
+     * Returns the configured parallelism, resolving 0 to half of the available processors.
+     */
+    public int effectiveParallelism() {
+        return parallelism > 0 ? parallelism : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+
+    /**
+     * Returns the configured memory budget, resolving 0 to a quarter of the maximum heap.
+     */
+    public DataSize effectiveMemoryBudget() {
+        return memoryBudget.toBytes() > 0 ? memoryBudget : DataSize.ofBytes(Runtime.getRuntime().maxMemory() / 4);
+    }
+}
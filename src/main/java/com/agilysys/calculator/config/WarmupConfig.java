@@ -0,0 +1,45 @@
+package com.agilysys.calculator.config;
+
+import com.agilysys.calculator.warmup.WarmupHealthIndicator;
+import com.agilysys.calculator.warmup.WarmupMdcFilter;
+import com.agilysys.calculator.warmup.WarmupRunner;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Start-up warm-up configuration.
+ * The warm-up health indicator is registered as {@code warmup} and belongs to the readiness group.
+ * It is always present, because health groups must only name existing contributors; when the
+ * runner is disabled it reports UP. Warm-up requests are marked by {@link WarmupMdcFilter} so that
+ * their logging can be suppressed.
+ */
+@Configuration
+@EnableConfigurationProperties(WarmupProperties.class)
+public class WarmupConfig {
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnProperty(prefix = "calculator.warmup", name = "enabled", matchIfMissing = true)
+    public WarmupRunner warmupRunner(WarmupProperties properties, ApplicationContext context,
+                                     ObjectMapper objectMapper) {
+        return new WarmupRunner(properties, context, objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnProperty(prefix = "calculator.warmup", name = "enabled", matchIfMissing = true)
+    public WarmupMdcFilter warmupMdcFilter(WarmupRunner warmupRunner) {
+        return new WarmupMdcFilter(warmupRunner);
+    }
+
+    @Bean
+    public WarmupHealthIndicator warmupHealthIndicator(ObjectProvider<WarmupRunner> warmupRunner) {
+        return new WarmupHealthIndicator(warmupRunner);
+    }
+}
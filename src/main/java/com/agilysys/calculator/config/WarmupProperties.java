@@ -0,0 +1,34 @@
+package com.agilysys.calculator.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the start-up warm-up phase that runs before the instance reports ready.
+ *
+ * @param enabled Whether to warm up before accepting traffic
+ * @param maxDuration Upper bound on the warm-up; readiness is reported afterwards even if latency has not settled
+ * @param batchSize Requests per measurement batch
+ * @param concurrency Number of threads sending warm-up requests
+ * @param minBatches Minimum number of batches before latency may be considered stable
+ * @param minRequests Minimum number of requests before the warm-up may end, so the request path
+ *     passes the C2 compile thresholds (about 15,000 invocations) rather than just stabilizing at C1
+ * @param stableBatches Consecutive batches whose p99 must stay within the tolerance of the previous batch
+ * @param tolerance Maximum relative p99 change between batches that still counts as stable
+ * @param maxBatchCompilationTime Maximum JIT compilation time added during the last batch for the
+ *     warm-up to end
+ */
+@ConfigurationProperties(prefix = "calculator.warmup")
+public record WarmupProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("60s") Duration maxDuration,
+    @DefaultValue("500") int batchSize,
+    @DefaultValue("4") int concurrency,
+    @DefaultValue("5") int minBatches,
+    @DefaultValue("20000") long minRequests,
+    @DefaultValue("3") int stableBatches,
+    @DefaultValue("0.25") double tolerance,
+    @DefaultValue("10ms") Duration maxBatchCompilationTime
+) {}
@@ -0,0 +1,150 @@
+package com.agilysys.calculator.controller;
+
+import com.agilysys.calculator.config.MatrixProperties;
+import com.agilysys.calculator.dto.ErrorResponse;
+import com.agilysys.calculator.dto.Matrix;
+import com.agilysys.calculator.dto.MatrixBinaryFormat;
+import com.agilysys.calculator.dto.MatrixOperation;
+import com.agilysys.calculator.dto.MatrixRequest;
+import com.agilysys.calculator.dto.MatrixResponse;
+import com.agilysys.calculator.jfr.CalculatorEvent;
+import com.agilysys.calculator.service.MatrixCalculatorService;
+import com.agilysys.calculator.service.MatrixMemoryBudget;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * REST controller for matrix operations.
+ * Accepts matrices as JSON or, for large inputs, in the compact {@link MatrixBinaryFormat}.
+ * Every request reserves its operands, result and working copies in the {@link MatrixMemoryBudget}
+ * until the response has been written.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/calculator/matrix")
+@RequiredArgsConstructor
+@Tag(name = "Matrix", description = "Matrix API for element-wise arithmetic, multiplication and solving")
+public class MatrixController {
+
+    private final MatrixCalculatorService matrixCalculatorService;
+    private final MatrixProperties matrixProperties;
+    private final MatrixMemoryBudget matrixMemoryBudget;
+
+    /**
+     * Performs a matrix operation on JSON operands.
+     *
+     * @param request The request containing both matrices and the operation
+     * @return ResponseEntity containing the resulting matrix
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+        summary = "Perform matrix operation",
+        description = "Performs ADD, SUBTRACT, MULTIPLY or SOLVE on two matrices in flat row-major layout"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Calculation successful",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = MatrixResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Bad request - validation error, incompatible dimensions or singular matrix",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "413",
+            description = "Request body larger than calculator.matrix.max-json-size",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "429",
+            description = "Matrix memory budget exhausted by other requests in progress",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public ResponseEntity<MatrixResponse> calculate(@Valid @RequestBody MatrixRequest request) {
+        log.info("Received matrix request: {} {}x{} by {}x{}", request.operation(),
+            request.left().rows(), request.left().cols(), request.right().rows(), request.right().cols());
+        // The operands are already parsed, bounded by max-json-size; reserve them with the result
+        matrixMemoryBudget.reserveForRequest().reserve(request.left().data().length + request.right().data().length
+            + request.operation().allocatedElements(request.left(), request.right()));
+        return ResponseEntity.ok(matrixCalculatorService.calculate(request));
+    }
+
+    /**
+     * Performs a matrix operation on operands in the compact binary format.
+     *
+     * @param operation The operation to perform
+     * @param body The left operand followed by the right operand
+     * @param response Receives the resulting matrix in the same binary format, streamed in chunks
+     */
+    @PostMapping(value = "/{operation}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @Operation(
+        summary = "Perform matrix operation (binary)",
+        description = "Body: left then right matrix, each as big-endian int32 rows, int32 cols and "
+            + "rows*cols float64 values in row-major order. The result uses the same encoding."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Calculation successful"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Bad request - unknown operation, malformed or trailing data, incompatible dimensions "
+                + "or singular matrix",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "429",
+            description = "Matrix memory budget exhausted by other requests in progress",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public void calculateBinary(@PathVariable MatrixOperation operation, InputStream body,
+                                HttpServletResponse response) throws IOException {
+        CalculatorEvent.recordOperation("MATRIX_" + operation);
+        MatrixMemoryBudget.Reservation reservation = matrixMemoryBudget.reserveForRequest();
+        Matrix left = MatrixBinaryFormat.read(body, matrixProperties.maxElements(), reservation::reserve);
+        Matrix right = MatrixBinaryFormat.read(body, matrixProperties.maxElements(), reservation::reserve);
+        MatrixBinaryFormat.requireEnd(body);
+        log.info("Received binary matrix request: {} {}x{} by {}x{}",
+            operation, left.rows(), left.cols(), right.rows(), right.cols());
+
+        reservation.reserve(operation.allocatedElements(left, right));
+        Matrix result = matrixCalculatorService.calculate(new MatrixRequest(left, right, operation)).result();
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setContentLengthLong(MatrixBinaryFormat.encodedLength(result));
+        MatrixBinaryFormat.write(result, response.getOutputStream());
+    }
+}
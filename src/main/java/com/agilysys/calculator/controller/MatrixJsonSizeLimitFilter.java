@@ -0,0 +1,148 @@
+package com.agilysys.calculator.controller;
+
+import com.agilysys.calculator.exception.PayloadTooLargeException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Bounds the body of JSON matrix requests, which Jackson would otherwise turn into full
+ * {@code double[]} arrays before any element limit can be checked.
+ * The body is read lazily through a counting stream, so nothing is buffered. Exceeding the limit, or
+ * declaring a larger {@code Content-Length}, raises a {@link PayloadTooLargeException} while the body
+ * is being parsed, which the global exception handler turns into a 413 response.
+ */
+public class MatrixJsonSizeLimitFilter extends OncePerRequestFilter {
+
+    private final DataSize maxSize;
+
+    public MatrixJsonSizeLimitFilter(DataSize maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        if (contentType == null) {
+            return true;
+        }
+        try {
+            return !MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+        } catch (InvalidMediaTypeException ex) {
+            return true;
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        chain.doFilter(new LimitedRequest(request, maxSize.toBytes()), response);
+    }
+
+    private static final class LimitedRequest extends HttpServletRequestWrapper {
+
+        private final long limit;
+        private ServletInputStream inputStream;
+
+        LimitedRequest(HttpServletRequest request, long limit) {
+            super(request);
+            this.limit = limit;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                inputStream = new LimitedInputStream(super.getInputStream(), super.getContentLengthLong(), limit);
+            }
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+
+    private static final class LimitedInputStream extends ServletInputStream {
+
+        private final ServletInputStream delegate;
+        private final long declaredLength;
+        private final long limit;
+        private long count;
+
+        LimitedInputStream(ServletInputStream delegate, long declaredLength, long limit) {
+            this.delegate = delegate;
+            this.declaredLength = declaredLength;
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            checkDeclaredLength();
+            int b = delegate.read();
+            if (b != -1) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            checkDeclaredLength();
+            int n = delegate.read(buffer, offset, length);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener listener) {
+            delegate.setReadListener(listener);
+        }
+
+        private void checkDeclaredLength() throws PayloadTooLargeException {
+            if (declaredLength > limit) {
+                throw tooLarge();
+            }
+        }
+
+        private void count(int n) throws PayloadTooLargeException {
+            count += n;
+            if (count > limit) {
+                throw tooLarge();
+            }
+        }
+
+        private PayloadTooLargeException tooLarge() {
+            return new PayloadTooLargeException(String.format(
+                "JSON matrix request exceeds %d bytes; use application/octet-stream for large matrices", limit));
+        }
+    }
+}
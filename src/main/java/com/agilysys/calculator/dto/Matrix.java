@@ -0,0 +1,30 @@
+package com.agilysys.calculator.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Dense matrix stored as a flat, row-major array.
+ * Element (i, j) is at index {@code i * cols + j}.
+ *
+ * @param rows Number of rows
+ * @param cols Number of columns
+ * @param data Elements in row-major order, {@code rows * cols} long
+ */
+@Schema(description = "Dense matrix in flat row-major layout")
+public record Matrix(
+    
+    @Positive(message = "Rows must be positive")
+    @Schema(description = "Number of rows", example = "2", requiredMode = Schema.RequiredMode.REQUIRED)
+    int rows,
+    
+    @Positive(message = "Columns must be positive")
+    @Schema(description = "Number of columns", example = "2", requiredMode = Schema.RequiredMode.REQUIRED)
+    int cols,
+    
+    @NotNull(message = "Matrix data is required")
+    @Schema(description = "Elements in row-major order", example = "[1.0, 2.0, 3.0, 4.0]",
+        requiredMode = Schema.RequiredMode.REQUIRED)
+    double[] data
+) {}
@@ -0,0 +1,122 @@
+package com.agilysys.calculator.dto;
+
+import com.agilysys.calculator.exception.InvalidMatrixException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.function.LongConsumer;
+
+/**
+ * Compact binary encoding of matrices for {@code application/octet-stream} requests and responses.
+ * A matrix is written as a big-endian 32-bit row count, a 32-bit column count and then
+ * {@code rows * cols} IEEE 754 64-bit doubles in row-major order. A request body holds the left
+ * operand followed directly by the right operand, and nothing else.
+ */
+public final class MatrixBinaryFormat {
+
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+    private static final int BUFFER_DOUBLES = 8192;
+
+    private MatrixBinaryFormat() {
+    }
+
+    /**
+     * Reads one matrix. The declared size is checked before any element storage is allocated.
+     *
+     * @param in The stream to read from
+     * @param maxElements Largest accepted number of elements
+     * @return The decoded matrix
+     * @throws InvalidMatrixException if the header is invalid, the matrix is too large or the data is truncated
+     */
+    public static Matrix read(InputStream in, int maxElements) throws IOException {
+        return read(in, maxElements, elements -> { });
+    }
+
+    /**
+     * Reads one matrix, reporting its element count to {@code beforeAllocate} once the header has
+     * been checked and before any element storage is allocated, so the caller can reserve memory for it.
+     *
+     * @param in The stream to read from
+     * @param maxElements Largest accepted number of elements
+     * @param beforeAllocate Called with the number of elements about to be allocated
+     * @return The decoded matrix
+     * @throws InvalidMatrixException if the header is invalid, the matrix is too large or the data is truncated
+     */
+    public static Matrix read(InputStream in, int maxElements, LongConsumer beforeAllocate) throws IOException {
+        ByteBuffer header = ByteBuffer.wrap(readFully(in, HEADER_BYTES));
+        int rows = header.getInt();
+        int cols = header.getInt();
+        if (rows <= 0 || cols <= 0) {
+            throw new InvalidMatrixException("Matrix dimensions must be positive, got " + rows + "x" + cols);
+        }
+        if ((long) rows * cols > maxElements) {
+            throw new InvalidMatrixException(String.format(
+                "A %dx%d matrix exceeds the limit of %d elements", rows, cols, maxElements));
+        }
+
+        beforeAllocate.accept((long) rows * cols);
+        double[] data = new double[rows * cols];
+        for (int offset = 0; offset < data.length; offset += BUFFER_DOUBLES) {
+            int count = Math.min(BUFFER_DOUBLES, data.length - offset);
+            ByteBuffer.wrap(readFully(in, count * Double.BYTES))
+                .order(ByteOrder.BIG_ENDIAN)
+                .asDoubleBuffer()
+                .get(data, offset, count);
+        }
+        return new Matrix(rows, cols, data);
+    }
+
+    /**
+     * Checks that nothing follows the last matrix of a request body.
+     *
+     * @param in The stream to check
+     * @throws InvalidMatrixException if there are further bytes
+     */
+    public static void requireEnd(InputStream in) throws IOException {
+        if (in.read() != -1) {
+            throw new InvalidMatrixException("Unexpected data after the right operand");
+        }
+    }
+
+    /**
+     * Returns the encoded size of a matrix in bytes.
+     *
+     * @param matrix The matrix to encode
+     */
+    public static long encodedLength(Matrix matrix) {
+        return HEADER_BYTES + (long) matrix.data().length * Double.BYTES;
+    }
+
+    /**
+     * Encodes one matrix onto a stream in chunks, without building the whole encoding in memory.
+     *
+     * @param matrix The matrix to encode
+     * @param out The stream to write to; it is not closed
+     */
+    public static void write(Matrix matrix, OutputStream out) throws IOException {
+        double[] data = matrix.data();
+        ByteBuffer buffer = ByteBuffer.allocate(Math.min(BUFFER_DOUBLES, data.length) * Double.BYTES + HEADER_BYTES)
+            .putInt(matrix.rows())
+            .putInt(matrix.cols());
+        for (int offset = 0; offset < data.length; offset += BUFFER_DOUBLES) {
+            int count = Math.min(BUFFER_DOUBLES, data.length - offset);
+            buffer.asDoubleBuffer().put(data, offset, count);
+            out.write(buffer.array(), 0, buffer.position() + count * Double.BYTES);
+            buffer.clear();
+        }
+        if (data.length == 0) {
+            out.write(buffer.array(), 0, buffer.position());
+        }
+    }
+
+    private static byte[] readFully(InputStream in, int length) throws IOException {
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length != length) {
+            throw new InvalidMatrixException("Matrix data is truncated");
+        }
+        return bytes;
+    }
+}
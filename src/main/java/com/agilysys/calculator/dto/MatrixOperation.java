@@ -0,0 +1,25 @@
+package com.agilysys.calculator.dto;
+
+/**
+ * Enumeration of supported matrix operations.
+ */
+public enum MatrixOperation {
+    ADD,
+    SUBTRACT,
+    MULTIPLY,
+    SOLVE;
+
+    /**
+     * Returns how many elements the operation allocates for its result and working copies.
+     *
+     * @param left The left operand, or coefficient matrix for SOLVE
+     * @param right The right operand, or right-hand side for SOLVE
+     */
+    public long allocatedElements(Matrix left, Matrix right) {
+        return switch (this) {
+            case ADD, SUBTRACT -> (long) left.rows() * left.cols();
+            case MULTIPLY -> (long) left.rows() * right.cols();
+            case SOLVE -> (long) left.rows() * left.cols() + (long) right.rows() * right.cols();
+        };
+    }
+}
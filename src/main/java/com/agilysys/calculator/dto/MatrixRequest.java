@@ -0,0 +1,30 @@
+package com.agilysys.calculator.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Request DTO for matrix operations.
+ * 
+ * @param left Left operand (the coefficient matrix A for SOLVE)
+ * @param right Right operand (the right-hand side B for SOLVE)
+ * @param operation The operation to perform (ADD, SUBTRACT, MULTIPLY, SOLVE)
+ */
+@Schema(description = "Request object for matrix operations")
+public record MatrixRequest(
+    
+    @Valid
+    @NotNull(message = "Left matrix is required")
+    @Schema(description = "Left operand", requiredMode = Schema.RequiredMode.REQUIRED)
+    Matrix left,
+    
+    @Valid
+    @NotNull(message = "Right matrix is required")
+    @Schema(description = "Right operand", requiredMode = Schema.RequiredMode.REQUIRED)
+    Matrix right,
+    
+    @NotNull(message = "Operation is required")
+    @Schema(description = "Operation to perform", example = "MULTIPLY", requiredMode = Schema.RequiredMode.REQUIRED)
+    MatrixOperation operation
+) {}
@@ -0,0 +1,19 @@
+package com.agilysys.calculator.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Response DTO for matrix operations.
+ * 
+ * @param result The resulting matrix
+ * @param operation The operation that was performed
+ */
+@Schema(description = "Response object containing the resulting matrix")
+public record MatrixResponse(
+    
+    @Schema(description = "Resulting matrix")
+    Matrix result,
+    
+    @Schema(description = "Operation performed", example = "MULTIPLY")
+    String operation
+) {}
@@ -0,0 +1,11 @@
+package com.agilysys.calculator.exception;
+
+/**
+ * Exception thrown when a tenant's bulkhead has no capacity left for a request.
+ */
+public class BulkheadFullException extends RuntimeException {
+    
+    public BulkheadFullException(String message) {
+        super(message);
+    }
+}
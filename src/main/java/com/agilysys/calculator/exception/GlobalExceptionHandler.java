@@ -1,13 +1,17 @@
 package com.agilysys.calculator.exception;
 
 import com.agilysys.calculator.dto.ErrorResponse;
+import com.agilysys.calculator.jfr.ErrorHandlingEvent;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -16,6 +20,7 @@ import java.util.List;
 /**
  * Global exception handler for the Calculator API.
  * Handles all exceptions and converts them to standardized error responses.
+ * Client errors are logged at WARN; only unexpected failures are logged at ERROR.
  */
 @Slf4j
 @RestControllerAdvice
@@ -26,7 +31,9 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(DivisionByZeroException.class)
     public ResponseEntity<ErrorResponse> handleDivisionByZero(DivisionByZeroException ex) {
-        log.error("Division by zero error: {}", ex.getMessage());
+        var event = new ErrorHandlingEvent();
+        event.begin();
+        log.warn("Division by zero error: {}", ex.getMessage());
         
         var errorResponse = new ErrorResponse(
             HttpStatus.BAD_REQUEST.value(),
@@ -35,6 +42,7 @@ public class GlobalExceptionHandler {
             List.of()
         );
         
+        event.complete(ex, HttpStatus.BAD_REQUEST);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
     
@@ -43,7 +51,9 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(InvalidOperationException.class)
     public ResponseEntity<ErrorResponse> handleInvalidOperation(InvalidOperationException ex) {
-        log.error("Invalid operation error: {}", ex.getMessage());
+        var event = new ErrorHandlingEvent();
+        event.begin();
+        log.warn("Invalid operation error: {}", ex.getMessage());
         
         var errorResponse = new ErrorResponse(
             HttpStatus.BAD_REQUEST.value(),
@@ -52,15 +62,123 @@ public class GlobalExceptionHandler {
             List.of()
         );
         
+        event.complete(ex, HttpStatus.BAD_REQUEST);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
     
+    /**
+     * Handles invalid or incompatible matrix operands.
+     */
+    @ExceptionHandler(InvalidMatrixException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidMatrix(InvalidMatrixException ex) {
+        var event = new ErrorHandlingEvent();
+        event.begin();
+        log.warn("Invalid matrix error: {}", ex.getMessage());
+        
+        var errorResponse = new ErrorResponse(
+            HttpStatus.BAD_REQUEST.value(),
+            ex.getMessage(),
+            LocalDateTime.now(),
+            List.of()
+        );
+        
+        event.complete(ex, HttpStatus.BAD_REQUEST);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+    
+    /**
+     * Handles singular matrix exceptions.
+     */
+    @ExceptionHandler(SingularMatrixException.class)
+    public ResponseEntity<ErrorResponse> handleSingularMatrix(SingularMatrixException ex) {
+        var event = new ErrorHandlingEvent();
+        event.begin();
+        log.warn("Singular matrix error: {}", ex.getMessage());
+        
+        var errorResponse = new ErrorResponse(
+            HttpStatus.BAD_REQUEST.value(),
+            ex.getMessage(),
+            LocalDateTime.now(),
+            List.of()
+        );
+        
+        event.complete(ex, HttpStatus.BAD_REQUEST);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+    
+    /**
+     * Handles request bodies that cannot be read: malformed JSON, or bodies above their size limit.
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ErrorResponse> handleNotReadable(HttpMessageNotReadableException ex) {
+        var event = new ErrorHandlingEvent();
+        event.begin();
+        Throwable cause = ex.getMostSpecificCause();
+        boolean tooLarge = cause instanceof PayloadTooLargeException;
+        HttpStatus status = tooLarge ? HttpStatus.PAYLOAD_TOO_LARGE : HttpStatus.BAD_REQUEST;
+        log.warn("Unreadable request body: {}", cause.getMessage());
+        
+        var errorResponse = new ErrorResponse(
+            status.value(),
+            tooLarge ? cause.getMessage() : "Malformed JSON request",
+            LocalDateTime.now(),
+            List.of()
+        );
+        
+        event.complete(ex, status);
+        return ResponseEntity.status(status).body(errorResponse);
+    }
+    
+    /**
+     * Handles path variables and request parameters that cannot be converted, such as an unknown operation.
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        var event = new ErrorHandlingEvent();
+        event.begin();
+        log.warn("Type mismatch error: {}", ex.getMessage());
+        
+        var errorResponse = new ErrorResponse(
+            HttpStatus.BAD_REQUEST.value(),
+            "Invalid value '" + ex.getValue() + "' for " + ex.getName(),
+            LocalDateTime.now(),
+            List.of()
+        );
+        
+        event.complete(ex, HttpStatus.BAD_REQUEST);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+    
+    /**
+     * Handles requests rejected by a tenant's bulkhead.
+     */
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<ErrorResponse> handleBulkheadFull(BulkheadFullException ex) {
+        var event = new ErrorHandlingEvent();
+        event.begin();
+        log.warn("Bulkhead rejected request: {}", ex.getMessage());
+        
+        var errorResponse = new ErrorResponse(
+            HttpStatus.TOO_MANY_REQUESTS.value(),
+            ex.getMessage(),
+            LocalDateTime.now(),
+            List.of()
+        );
+        
+        event.complete(ex, HttpStatus.TOO_MANY_REQUESTS);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(errorResponse);
+    }
+    
     /**
      * Handles validation errors from @Valid annotation.
      */
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationErrors(MethodArgumentNotValidException ex) {
-        log.error("Validation error: {}", ex.getMessage());
+        var event = new ErrorHandlingEvent();
+        event.begin();
+        log.warn("Validation error: {}", ex.getMessage());
         
         List<String> errors = new ArrayList<>();
         ex.getBindingResult().getAllErrors().forEach(error -> {
@@ -76,6 +194,7 @@ public class GlobalExceptionHandler {
             errors
         );
         
+        event.complete(ex, HttpStatus.BAD_REQUEST);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
     
@@ -84,6 +203,8 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
+        var event = new ErrorHandlingEvent();
+        event.begin();
         log.error("Unexpected error occurred: ", ex);
         
         var errorResponse = new ErrorResponse(
@@ -93,6 +214,7 @@ public class GlobalExceptionHandler {
             List.of()
         );
         
+        event.complete(ex, HttpStatus.INTERNAL_SERVER_ERROR);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
     }
 }
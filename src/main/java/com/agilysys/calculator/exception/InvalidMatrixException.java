@@ -0,0 +1,11 @@
+package com.agilysys.calculator.exception;
+
+/**
+ * Exception thrown when matrix operands have invalid or incompatible dimensions.
+ */
+public class InvalidMatrixException extends RuntimeException {
+    
+    public InvalidMatrixException(String message) {
+        super(message);
+    }
+}
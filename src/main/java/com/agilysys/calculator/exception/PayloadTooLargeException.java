@@ -0,0 +1,16 @@
+package com.agilysys.calculator.exception;
+
+import java.io.IOException;
+
+/**
+ * Exception thrown while reading a request body that exceeds its size limit.
+ * It is an {@link IOException} so that Jackson passes it through unchanged; Spring then reports it
+ * as the cause of an {@code HttpMessageNotReadableException}, which the global exception handler
+ * answers with 413.
+ */
+public class PayloadTooLargeException extends IOException {
+    
+    public PayloadTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.agilysys.calculator.exception;
+
+/**
+ * Exception thrown when solving a system whose coefficient matrix is singular.
+ */
+public class SingularMatrixException extends RuntimeException {
+    
+    public SingularMatrixException(String message) {
+        super(message);
+    }
+}
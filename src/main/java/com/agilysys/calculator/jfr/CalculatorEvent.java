@@ -0,0 +1,88 @@
+package com.agilysys.calculator.jfr;
+
+import com.agilysys.calculator.dto.CalculatorRequest;
+import com.agilysys.calculator.dto.CalculatorResponse;
+import com.agilysys.calculator.dto.ErrorResponse;
+import com.agilysys.calculator.dto.MatrixRequest;
+import com.agilysys.calculator.dto.MatrixResponse;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Base class for the Calculator API Java Flight Recorder events.
+ * Events are only committed while a recording has them enabled and their duration
+ * exceeds the configured threshold, so an idle JVM pays close to nothing for them.
+ */
+public abstract class CalculatorEvent extends Event {
+
+    public static final String SUCCESS = "SUCCESS";
+    public static final String UNKNOWN = "UNKNOWN";
+
+    private static final String OPERATION_ATTRIBUTE = CalculatorEvent.class.getName() + ".operation";
+
+    @Label("Operation")
+    protected String operation;
+
+    @Label("Outcome")
+    protected String outcome;
+
+    /**
+     * Ends the event and commits it if it passes the recording's threshold.
+     *
+     * @param operation The calculator operation, or {@link #UNKNOWN}
+     * @param outcome {@link #SUCCESS} or the failure reason
+     */
+    public void complete(String operation, String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+
+    /**
+     * Resolves the operation name carried by a request or response body.
+     */
+    public static String operationOf(Object body) {
+        if (body instanceof CalculatorRequest request && request.operation() != null) {
+            return request.operation().name();
+        }
+        if (body instanceof CalculatorResponse response) {
+            return response.operation();
+        }
+        if (body instanceof MatrixRequest request && request.operation() != null) {
+            return "MATRIX_" + request.operation();
+        }
+        if (body instanceof MatrixResponse response) {
+            return "MATRIX_" + response.operation();
+        }
+        if (body instanceof ErrorResponse) {
+            return "ERROR";
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * Remembers the operation of the current request, so that events raised later while handling
+     * the same request, such as error handling, can carry it. Does nothing outside a request.
+     */
+    public static void recordOperation(String operation) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(OPERATION_ATTRIBUTE, operation, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /**
+     * Returns the operation remembered by {@link #recordOperation}, or {@link #UNKNOWN}.
+     */
+    public static String recordedOperation() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        Object operation = attributes != null
+            ? attributes.getAttribute(OPERATION_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) : null;
+        return operation != null ? operation.toString() : UNKNOWN;
+    }
+}
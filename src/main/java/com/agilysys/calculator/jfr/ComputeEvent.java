@@ -0,0 +1,20 @@
+package com.agilysys.calculator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for execution of a calculation in the service layer.
+ */
+@Name("com.agilysys.calculator.Compute")
+@Label("Compute")
+@Category("Calculator API")
+@Description("Execution of a calculation in the service layer")
+@Threshold("1 ms")
+@StackTrace(false)
+public class ComputeEvent extends CalculatorEvent {
+}
@@ -0,0 +1,41 @@
+package com.agilysys.calculator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import org.springframework.http.HttpStatus;
+
+/**
+ * JFR event for translating an exception into an error response.
+ */
+@Name("com.agilysys.calculator.ErrorHandling")
+@Label("Error Handling")
+@Category("Calculator API")
+@Description("Translation of an exception into an error response")
+@Threshold("1 ms")
+@StackTrace(false)
+public class ErrorHandlingEvent extends CalculatorEvent {
+
+    @Label("Exception")
+    protected String exceptionType;
+
+    /**
+     * Ends the event and commits it if it passes the recording's threshold.
+     * The operation is the one recorded for the current request, if the body had been parsed.
+     *
+     * @param exception The exception being handled
+     * @param status The HTTP status of the error response
+     */
+    public void complete(Exception exception, HttpStatus status) {
+        end();
+        if (shouldCommit()) {
+            this.operation = recordedOperation();
+            this.outcome = status.toString();
+            this.exceptionType = exception.getClass().getName();
+            commit();
+        }
+    }
+}
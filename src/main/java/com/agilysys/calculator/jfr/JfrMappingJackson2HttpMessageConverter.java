@@ -0,0 +1,54 @@
+package com.agilysys.calculator.jfr;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Jackson message converter that emits {@link RequestParseEvent} and {@link SerializeEvent}
+ * around request deserialization and response serialization.
+ * The parsed operation is remembered for the request so error handling events can report it.
+ */
+public class JfrMappingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public JfrMappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        var event = new RequestParseEvent();
+        event.begin();
+        try {
+            Object body = super.read(type, contextClass, inputMessage);
+            String operation = CalculatorEvent.operationOf(body);
+            CalculatorEvent.recordOperation(operation);
+            event.complete(operation, CalculatorEvent.SUCCESS);
+            return body;
+        } catch (IOException | RuntimeException ex) {
+            event.complete(CalculatorEvent.UNKNOWN, ex.getClass().getSimpleName());
+            throw ex;
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        var event = new SerializeEvent();
+        event.begin();
+        try {
+            super.writeInternal(object, type, outputMessage);
+            event.complete(CalculatorEvent.operationOf(object), CalculatorEvent.SUCCESS);
+        } catch (IOException | RuntimeException ex) {
+            event.complete(CalculatorEvent.operationOf(object), ex.getClass().getSimpleName());
+            throw ex;
+        }
+    }
+}
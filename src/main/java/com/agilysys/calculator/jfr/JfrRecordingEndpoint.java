@@ -0,0 +1,160 @@
+package com.agilysys.calculator.jfr;
+
+import com.agilysys.calculator.config.JfrProperties;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Actuator endpoint for profiling a live instance with Java Flight Recorder.
+ * <ul>
+ *   <li>{@code POST /actuator/jfr} starts a bounded recording</li>
+ *   <li>{@code DELETE /actuator/jfr} stops it</li>
+ *   <li>{@code GET /actuator/jfr} streams the recording as a {@code .jfr} file</li>
+ * </ul>
+ * Only one recording is kept at a time; starting a new one discards the previous one.
+ * The endpoint is not exposed by default; see the README for exposing it on an internal management port.
+ */
+@Slf4j
+@WebEndpoint(id = "jfr")
+@RequiredArgsConstructor
+public class JfrRecordingEndpoint {
+
+    private static final List<Class<? extends CalculatorEvent>> EVENT_TYPES = List.of(
+        RequestParseEvent.class, ComputeEvent.class, SerializeEvent.class, ErrorHandlingEvent.class);
+
+    /**
+     * JDK events of the "default" settings that capture environment variables, system properties,
+     * JVM arguments or other processes' command lines, any of which may hold credentials.
+     */
+    static final List<String> SENSITIVE_EVENTS = List.of(
+        "jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty", "jdk.InitialSecurityProperty",
+        "jdk.JVMInformation", "jdk.SystemProcess");
+
+    private final JfrProperties properties;
+
+    private Recording recording;
+
+    /**
+     * Starts a recording using the JDK "default" settings, minus {@link #SENSITIVE_EVENTS},
+     * plus the Calculator API events.
+     *
+     * @param durationSeconds Recording length, capped at the configured maximum
+     * @param thresholdMillis Minimum duration for Calculator API events, defaults to the configured threshold
+     * @return The state of the new recording, 400 if the threshold is negative,
+     *     or 409 if a recording is already running
+     */
+    @WriteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> start(
+            Long durationSeconds, Long thresholdMillis) {
+        if (thresholdMillis != null && thresholdMillis < 0) {
+            return new WebEndpointResponse<>(Map.of("message", "thresholdMillis must not be negative"),
+                WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return new WebEndpointResponse<>(status(), HttpStatus.CONFLICT.value());
+        }
+        closeRecording();
+
+        Duration duration = durationSeconds != null
+            ? Duration.ofSeconds(durationSeconds) : properties.defaultDuration();
+        if (duration.isNegative() || duration.isZero() || duration.compareTo(properties.maxDuration()) > 0) {
+            duration = properties.maxDuration();
+        }
+        Duration threshold = thresholdMillis != null
+            ? Duration.ofMillis(thresholdMillis) : properties.threshold();
+
+        recording = new Recording(defaultConfiguration());
+        SENSITIVE_EVENTS.forEach(recording::disable);
+        EVENT_TYPES.forEach(type -> recording.enable(type).withThreshold(threshold));
+        recording.setName("calculator-api");
+        recording.setToDisk(true);
+        recording.setDuration(duration);
+        recording.setMaxSize(properties.maxSize().toBytes());
+        recording.start();
+
+        log.info("Started JFR recording for {} with event threshold {}", duration, threshold);
+        return new WebEndpointResponse<>(status());
+    }
+
+    /**
+     * Stops the running recording. Its data stays available for download until the next start.
+     */
+    @DeleteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> stop() {
+        if (recording == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+            log.info("Stopped JFR recording");
+        }
+        return new WebEndpointResponse<>(status());
+    }
+
+    /**
+     * Streams the current recording. A running recording is dumped as a snapshot without stopping it.
+     */
+    @ReadOperation
+    public synchronized WebEndpointResponse<Resource> download() throws IOException {
+        if (recording == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        Path file = Files.createTempFile("calculator-api-", ".jfr");
+        try {
+            recording.dump(file);
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(file);
+            throw ex;
+        }
+        var content = Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE);
+        return new WebEndpointResponse<>(new InputStreamResource(content));
+    }
+
+    @PreDestroy
+    public synchronized void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("state", recording.getState().name());
+        status.put("startTime", String.valueOf(recording.getStartTime()));
+        status.put("duration", String.valueOf(recording.getDuration()));
+        status.put("maxSize", recording.getMaxSize());
+        status.put("size", recording.getSize());
+        return status;
+    }
+
+    private static Configuration defaultConfiguration() {
+        try {
+            return Configuration.getConfiguration("default");
+        } catch (IOException | ParseException ex) {
+            throw new IllegalStateException("JFR default configuration is not available", ex);
+        }
+    }
+}
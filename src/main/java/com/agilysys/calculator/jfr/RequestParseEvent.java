@@ -0,0 +1,20 @@
+package com.agilysys.calculator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for JSON deserialization of a request body.
+ */
+@Name("com.agilysys.calculator.RequestParse")
+@Label("Request Parse")
+@Category("Calculator API")
+@Description("JSON deserialization of a request body")
+@Threshold("1 ms")
+@StackTrace(false)
+public class RequestParseEvent extends CalculatorEvent {
+}
@@ -0,0 +1,20 @@
+package com.agilysys.calculator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for JSON serialization of a response body.
+ */
+@Name("com.agilysys.calculator.Serialize")
+@Label("Serialize")
+@Category("Calculator API")
+@Description("JSON serialization of a response body")
+@Threshold("1 ms")
+@StackTrace(false)
+public class SerializeEvent extends CalculatorEvent {
+}
@@ -4,6 +4,8 @@ import com.agilysys.calculator.dto.CalculatorRequest;
 import com.agilysys.calculator.dto.CalculatorResponse;
 import com.agilysys.calculator.exception.DivisionByZeroException;
 import com.agilysys.calculator.exception.InvalidOperationException;
+import com.agilysys.calculator.jfr.CalculatorEvent;
+import com.agilysys.calculator.jfr.ComputeEvent;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -20,14 +22,23 @@ public class CalculatorServiceImpl implements CalculatorService {
         log.info("Performing calculation: {} {} {}", 
             request.num1(), request.operation(), request.num2());
         
-        Double result = switch (request.operation()) {
-            case ADD -> add(request.num1(), request.num2());
-            case SUBTRACT -> subtract(request.num1(), request.num2());
-            case MULTIPLY -> multiply(request.num1(), request.num2());
-            case DIVIDE -> divide(request.num1(), request.num2());
-            default -> throw new InvalidOperationException(
-                "Invalid operation: " + request.operation());
-        };
+        var event = new ComputeEvent();
+        event.begin();
+        Double result;
+        try {
+            result = switch (request.operation()) {
+                case ADD -> add(request.num1(), request.num2());
+                case SUBTRACT -> subtract(request.num1(), request.num2());
+                case MULTIPLY -> multiply(request.num1(), request.num2());
+                case DIVIDE -> divide(request.num1(), request.num2());
+                default -> throw new InvalidOperationException(
+                    "Invalid operation: " + request.operation());
+            };
+        } catch (RuntimeException ex) {
+            event.complete(String.valueOf(request.operation()), ex.getClass().getSimpleName());
+            throw ex;
+        }
+        event.complete(request.operation().name(), CalculatorEvent.SUCCESS);
         
         log.info("Calculation result: {}", result);
         return new CalculatorResponse(result, request.operation().name());
@@ -51,7 +62,7 @@ public class CalculatorServiceImpl implements CalculatorService {
     @Override
     public Double divide(Double num1, Double num2) {
         if (num2 == 0.0) {
-            log.error("Attempted division by zero");
+            log.debug("Attempted division by zero");
             throw new DivisionByZeroException("Division by zero is not allowed");
         }
         return num1 / num2;
@@ -0,0 +1,58 @@
+package com.agilysys.calculator.service;
+
+import com.agilysys.calculator.dto.Matrix;
+import com.agilysys.calculator.dto.MatrixRequest;
+import com.agilysys.calculator.dto.MatrixResponse;
+
+/**
+ * Service interface for matrix operations, extending the calculator to dense matrices.
+ */
+public interface MatrixCalculatorService {
+    
+    /**
+     * Performs the requested matrix operation.
+     *
+     * @param request The request containing both operands and the operation
+     * @return MatrixResponse containing the resulting matrix
+     * @throws com.agilysys.calculator.exception.InvalidMatrixException if the operands are invalid or incompatible
+     * @throws com.agilysys.calculator.exception.SingularMatrixException if solving a singular system
+     */
+    MatrixResponse calculate(MatrixRequest request);
+    
+    /**
+     * Adds two matrices element-wise.
+     *
+     * @param left First matrix
+     * @param right Second matrix of the same shape
+     * @return The element-wise sum
+     */
+    Matrix add(Matrix left, Matrix right);
+    
+    /**
+     * Subtracts the second matrix from the first element-wise.
+     *
+     * @param left First matrix
+     * @param right Second matrix of the same shape
+     * @return The element-wise difference
+     */
+    Matrix subtract(Matrix left, Matrix right);
+    
+    /**
+     * Multiplies two matrices.
+     *
+     * @param left An n x k matrix
+     * @param right A k x m matrix
+     * @return The n x m matrix product
+     */
+    Matrix multiply(Matrix left, Matrix right);
+    
+    /**
+     * Solves the linear system A X = B.
+     *
+     * @param coefficients The square n x n matrix A
+     * @param rightHandSide The n x m matrix B
+     * @return The n x m solution X
+     * @throws com.agilysys.calculator.exception.SingularMatrixException if A is singular
+     */
+    Matrix solve(Matrix coefficients, Matrix rightHandSide);
+}
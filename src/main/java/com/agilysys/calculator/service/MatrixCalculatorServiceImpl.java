@@ -0,0 +1,136 @@
+package com.agilysys.calculator.service;
+
+import com.agilysys.calculator.config.MatrixProperties;
+import com.agilysys.calculator.dto.Matrix;
+import com.agilysys.calculator.dto.MatrixRequest;
+import com.agilysys.calculator.dto.MatrixResponse;
+import com.agilysys.calculator.exception.InvalidMatrixException;
+import com.agilysys.calculator.jfr.CalculatorEvent;
+import com.agilysys.calculator.jfr.ComputeEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Implementation of the MatrixCalculatorService interface.
+ * Validates operand shapes and size and work limits, then delegates to the {@link MatrixKernels}
+ * running on the dedicated matrix fork-join pool.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MatrixCalculatorServiceImpl implements MatrixCalculatorService {
+
+    private final MatrixProperties properties;
+    private final ForkJoinPool matrixForkJoinPool;
+
+    @Override
+    public MatrixResponse calculate(MatrixRequest request) {
+        Matrix left = request.left();
+        Matrix right = request.right();
+        log.info("Performing matrix calculation: {}x{} {} {}x{}",
+            left.rows(), left.cols(), request.operation(), right.rows(), right.cols());
+
+        String operation = "MATRIX_" + request.operation();
+        var event = new ComputeEvent();
+        event.begin();
+        Matrix result;
+        try {
+            result = switch (request.operation()) {
+                case ADD -> add(left, right);
+                case SUBTRACT -> subtract(left, right);
+                case MULTIPLY -> multiply(left, right);
+                case SOLVE -> solve(left, right);
+            };
+        } catch (RuntimeException ex) {
+            event.complete(operation, ex.getClass().getSimpleName());
+            throw ex;
+        }
+        event.complete(operation, CalculatorEvent.SUCCESS);
+
+        return new MatrixResponse(result, request.operation().name());
+    }
+
+    @Override
+    public Matrix add(Matrix left, Matrix right) {
+        requireSameShape(left, right);
+        return new Matrix(left.rows(), left.cols(), MatrixKernels.add(left.data(), right.data(), matrixForkJoinPool));
+    }
+
+    @Override
+    public Matrix subtract(Matrix left, Matrix right) {
+        requireSameShape(left, right);
+        return new Matrix(left.rows(), left.cols(), MatrixKernels.subtract(left.data(), right.data(), matrixForkJoinPool));
+    }
+
+    @Override
+    public Matrix multiply(Matrix left, Matrix right) {
+        requireValid(left);
+        requireValid(right);
+        if (left.cols() != right.rows()) {
+            throw new InvalidMatrixException(String.format(
+                "Cannot multiply %dx%d by %dx%d: inner dimensions differ",
+                left.rows(), left.cols(), right.rows(), right.cols()));
+        }
+        requireWithinLimit(left.rows(), right.cols());
+        long ops = (long) left.rows() * left.cols() * right.cols();
+        if (ops > properties.maxMultiplyOps()) {
+            throw new InvalidMatrixException(String.format(
+                "Multiplying %dx%d by %dx%d takes %d multiply-adds, above the limit of %d",
+                left.rows(), left.cols(), right.rows(), right.cols(), ops, properties.maxMultiplyOps()));
+        }
+        return new Matrix(left.rows(), right.cols(), MatrixKernels.multiply(
+            left.data(), right.data(), left.rows(), left.cols(), right.cols(), matrixForkJoinPool));
+    }
+
+    @Override
+    public Matrix solve(Matrix coefficients, Matrix rightHandSide) {
+        requireValid(coefficients);
+        requireValid(rightHandSide);
+        if (coefficients.rows() != coefficients.cols()) {
+            throw new InvalidMatrixException(String.format(
+                "Coefficient matrix must be square, got %dx%d", coefficients.rows(), coefficients.cols()));
+        }
+        if (rightHandSide.rows() != coefficients.rows()) {
+            throw new InvalidMatrixException(String.format(
+                "Right-hand side must have %d rows, got %d", coefficients.rows(), rightHandSide.rows()));
+        }
+        long n = coefficients.rows();
+        if (n * n * n > properties.maxSolveOps()) {
+            throw new InvalidMatrixException(String.format(
+                "Solving a %dx%d system exceeds the limit of %d for n^3", n, n, properties.maxSolveOps()));
+        }
+        return new Matrix(rightHandSide.rows(), rightHandSide.cols(), MatrixKernels.solve(
+            coefficients.data(), rightHandSide.data(), coefficients.rows(), rightHandSide.cols(), matrixForkJoinPool));
+    }
+
+    private void requireSameShape(Matrix left, Matrix right) {
+        requireValid(left);
+        requireValid(right);
+        if (left.rows() != right.rows() || left.cols() != right.cols()) {
+            throw new InvalidMatrixException(String.format(
+                "Matrix shapes differ: %dx%d and %dx%d", left.rows(), left.cols(), right.rows(), right.cols()));
+        }
+    }
+
+    private void requireValid(Matrix matrix) {
+        requireWithinLimit(matrix.rows(), matrix.cols());
+        if (matrix.data().length != matrix.rows() * matrix.cols()) {
+            throw new InvalidMatrixException(String.format(
+                "A %dx%d matrix needs %d elements, got %d",
+                matrix.rows(), matrix.cols(), matrix.rows() * matrix.cols(), matrix.data().length));
+        }
+    }
+
+    private void requireWithinLimit(int rows, int cols) {
+        if (rows <= 0 || cols <= 0) {
+            throw new InvalidMatrixException("Matrix dimensions must be positive, got " + rows + "x" + cols);
+        }
+        if ((long) rows * cols > properties.maxElements()) {
+            throw new InvalidMatrixException(String.format(
+                "A %dx%d matrix exceeds the limit of %d elements", rows, cols, properties.maxElements()));
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.agilysys.calculator.service;
+
+import com.agilysys.calculator.exception.SingularMatrixException;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Numeric kernels for dense matrices stored as flat, row-major {@code double[]}.
+ * Large inputs are split across the threads of the given fork-join pool, never the JVM-wide common
+ * pool, so the CPU that matrix work can take is bounded by that pool's parallelism. Small inputs,
+ * or a null pool, run on the calling thread, where the fork-join overhead would dominate.
+ */
+final class MatrixKernels {
+
+    /** Tile edge for multiplication; three 64x64 double tiles (96 KB) stay resident in L2. */
+    static final int BLOCK = 64;
+
+    private static final int CHUNK = 1 << 14;
+    private static final int PARALLEL_ELEMENTS = 1 << 15;
+    private static final long PARALLEL_FLOPS = 1L << 21;
+
+    private MatrixKernels() {
+    }
+
+    static double[] add(double[] a, double[] b, ForkJoinPool pool) {
+        double[] c = new double[a.length];
+        forEachChunk(a.length, pool, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                c[i] = a[i] + b[i];
+            }
+        });
+        return c;
+    }
+
+    static double[] subtract(double[] a, double[] b, ForkJoinPool pool) {
+        double[] c = new double[a.length];
+        forEachChunk(a.length, pool, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                c[i] = a[i] - b[i];
+            }
+        });
+        return c;
+    }
+
+    /**
+     * Multiplies an n x k matrix by a k x m matrix.
+     * The output is tiled into BLOCK x BLOCK blocks and each row band of tiles is computed by one
+     * task, so tasks write disjoint rows and need no synchronization. Within a tile the i-p-j loop
+     * order streams through rows of {@code b} and {@code c}, which the JIT can vectorize.
+     */
+    static double[] multiply(double[] a, double[] b, int n, int k, int m, ForkJoinPool pool) {
+        double[] c = new double[n * m];
+        forEach((n + BLOCK - 1) / BLOCK, (long) n * k * m >= PARALLEL_FLOPS ? pool : null,
+            band -> multiplyRowBand(a, b, c, n, k, m, band * BLOCK));
+        return c;
+    }
+
+    private static void multiplyRowBand(double[] a, double[] b, double[] c, int n, int k, int m, int i0) {
+        int iEnd = Math.min(i0 + BLOCK, n);
+        for (int p0 = 0; p0 < k; p0 += BLOCK) {
+            int pEnd = Math.min(p0 + BLOCK, k);
+            for (int j0 = 0; j0 < m; j0 += BLOCK) {
+                int jEnd = Math.min(j0 + BLOCK, m);
+                for (int i = i0; i < iEnd; i++) {
+                    int aRow = i * k;
+                    int cRow = i * m;
+                    for (int p = p0; p < pEnd; p++) {
+                        double aip = a[aRow + p];
+                        int bRow = p * m;
+                        for (int j = j0; j < jEnd; j++) {
+                            c[cRow + j] += aip * b[bRow + j];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Solves A X = B for X, where A is n x n and B is n x m, by Gaussian elimination with
+     * partial pivoting. The row updates below each pivot are independent and run in parallel.
+     *
+     * @throws SingularMatrixException if A is singular to working precision
+     */
+    static double[] solve(double[] a, double[] b, int n, int m, ForkJoinPool pool) {
+        double[] u = a.clone();
+        double[] x = b.clone();
+
+        double scale = 0.0;
+        for (double value : u) {
+            scale = Math.max(scale, Math.abs(value));
+        }
+        double tiny = scale * n * Math.ulp(1.0);
+
+        for (int col = 0; col < n; col++) {
+            int pivot = col;
+            double max = Math.abs(u[col * n + col]);
+            for (int r = col + 1; r < n; r++) {
+                double candidate = Math.abs(u[r * n + col]);
+                if (candidate > max) {
+                    max = candidate;
+                    pivot = r;
+                }
+            }
+            if (max <= tiny) {
+                throw new SingularMatrixException("Matrix is singular and the system cannot be solved");
+            }
+            if (pivot != col) {
+                swapRows(u, n, col, pivot);
+                swapRows(x, m, col, pivot);
+            }
+
+            int c = col;
+            double diagonal = u[c * n + c];
+            boolean large = (long) (n - c) * (n - c + m) >= PARALLEL_ELEMENTS;
+            forEach(n - c - 1, large ? pool : null, row -> {
+                int r = c + 1 + row;
+                double factor = u[r * n + c] / diagonal;
+                if (factor == 0.0) {
+                    return;
+                }
+                for (int j = c + 1; j < n; j++) {
+                    u[r * n + j] -= factor * u[c * n + j];
+                }
+                for (int j = 0; j < m; j++) {
+                    x[r * m + j] -= factor * x[c * m + j];
+                }
+            });
+        }
+
+        for (int i = n - 1; i >= 0; i--) {
+            for (int p = i + 1; p < n; p++) {
+                double factor = u[i * n + p];
+                if (factor != 0.0) {
+                    for (int j = 0; j < m; j++) {
+                        x[i * m + j] -= factor * x[p * m + j];
+                    }
+                }
+            }
+            double diagonal = u[i * n + i];
+            for (int j = 0; j < m; j++) {
+                x[i * m + j] /= diagonal;
+            }
+        }
+        return x;
+    }
+
+    private static void swapRows(double[] matrix, int cols, int r1, int r2) {
+        double[] row = new double[cols];
+        System.arraycopy(matrix, r1 * cols, row, 0, cols);
+        System.arraycopy(matrix, r2 * cols, matrix, r1 * cols, cols);
+        System.arraycopy(row, 0, matrix, r2 * cols, cols);
+    }
+
+    private static void forEachChunk(int length, ForkJoinPool pool, ChunkTask task) {
+        if (pool == null || length < PARALLEL_ELEMENTS) {
+            task.run(0, length);
+            return;
+        }
+        forEach((length + CHUNK - 1) / CHUNK, pool,
+            chunk -> task.run(chunk * CHUNK, Math.min(length, (chunk + 1) * CHUNK)));
+    }
+
+    /**
+     * Runs {@code body} for every index in {@code [0, count)}, in the pool if one is given.
+     */
+    private static void forEach(int count, ForkJoinPool pool, IntConsumer body) {
+        if (pool == null || count <= 1) {
+            for (int i = 0; i < count; i++) {
+                body.accept(i);
+            }
+            return;
+        }
+        pool.invoke(new RangeAction(0, count, body));
+    }
+
+    @FunctionalInterface
+    private interface ChunkTask {
+        void run(int from, int to);
+    }
+
+    /**
+     * Splits an index range in halves until single indices remain.
+     */
+    private static final class RangeAction extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final IntConsumer body;
+
+        RangeAction(int from, int to, IntConsumer body) {
+            this.from = from;
+            this.to = to;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                body.accept(from);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RangeAction(from, mid, body), new RangeAction(mid, to, body));
+        }
+    }
+}
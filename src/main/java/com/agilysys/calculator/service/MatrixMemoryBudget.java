@@ -0,0 +1,95 @@
+package com.agilysys.calculator.service;
+
+import com.agilysys.calculator.exception.BulkheadFullException;
+import com.agilysys.calculator.exception.InvalidMatrixException;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds the heap held by matrix requests in flight, counted in matrix elements (8 bytes each).
+ * A request reserves room for each operand before it is allocated, and for the result and working
+ * copies before the operation runs; the reservation is returned when the request completes.
+ * A request that cannot reserve its share within the wait timeout is rejected with a
+ * {@link BulkheadFullException}, which the global exception handler turns into a 429 response.
+ */
+public class MatrixMemoryBudget {
+
+    private static final String RESERVATION_ATTRIBUTE = MatrixMemoryBudget.class.getName() + ".reservation";
+
+    private final int capacity;
+    private final Duration timeout;
+    private final Semaphore elements;
+
+    public MatrixMemoryBudget(long capacityElements, Duration timeout) {
+        this.capacity = (int) Math.min(capacityElements, Integer.MAX_VALUE);
+        this.timeout = timeout;
+        this.elements = new Semaphore(capacity, true);
+    }
+
+    /**
+     * Opens a reservation that is released when the current request completes,
+     * after the response has been written.
+     */
+    public Reservation reserveForRequest() {
+        var reservation = new Reservation();
+        RequestContextHolder.currentRequestAttributes().registerDestructionCallback(
+            RESERVATION_ATTRIBUTE, reservation::close, RequestAttributes.SCOPE_REQUEST);
+        return reservation;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public int available() {
+        return elements.availablePermits();
+    }
+
+    /**
+     * Elements held by one request.
+     */
+    public final class Reservation implements AutoCloseable {
+
+        private int held;
+
+        Reservation() {
+        }
+
+        /**
+         * Reserves room for further elements, waiting up to the timeout for other requests to finish.
+         *
+         * @param count Number of elements about to be allocated
+         * @throws InvalidMatrixException if the request needs more than the whole budget
+         * @throws BulkheadFullException if the budget stays exhausted until the timeout
+         */
+        public synchronized void reserve(long count) {
+            if (held + count > capacity) {
+                throw new InvalidMatrixException(String.format(
+                    "Request needs %d matrix elements in memory, above the budget of %d", held + count, capacity));
+            }
+            try {
+                if (!elements.tryAcquire((int) count, timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                    throw new BulkheadFullException("Too many large matrix requests in progress");
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new BulkheadFullException("Interrupted waiting for matrix memory");
+            }
+            held += (int) count;
+        }
+
+        public synchronized int held() {
+            return held;
+        }
+
+        @Override
+        public synchronized void close() {
+            elements.release(held);
+            held = 0;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.agilysys.calculator.warmup;
+
+import java.util.Arrays;
+
+/**
+ * Decides when warm-up latency has stopped improving.
+ * Latency is considered stable once the p99 of a configured number of consecutive batches
+ * stays within a relative tolerance of the batch before it.
+ */
+public class LatencyStabilizer {
+
+    private final int minBatches;
+    private final int stableBatches;
+    private final double tolerance;
+
+    private int batches;
+    private int consecutiveStable;
+    private long lastP99Nanos = -1;
+
+    public LatencyStabilizer(int minBatches, int stableBatches, double tolerance) {
+        this.minBatches = minBatches;
+        this.stableBatches = stableBatches;
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * Records a batch of latencies.
+     *
+     * @param latenciesNanos Latencies of the batch's requests, in nanoseconds
+     * @return Whether latency is now stable
+     */
+    public boolean record(long[] latenciesNanos) {
+        long p99 = p99(latenciesNanos);
+        if (lastP99Nanos >= 0 && Math.abs(p99 - lastP99Nanos) <= tolerance * lastP99Nanos) {
+            consecutiveStable++;
+        } else {
+            consecutiveStable = 0;
+        }
+        lastP99Nanos = p99;
+        batches++;
+        return isStable();
+    }
+
+    public boolean isStable() {
+        return batches >= minBatches && consecutiveStable >= stableBatches;
+    }
+
+    public int batches() {
+        return batches;
+    }
+
+    public long lastP99Nanos() {
+        return lastP99Nanos;
+    }
+
+    static long p99(long[] latenciesNanos) {
+        if (latenciesNanos.length == 0) {
+            return 0;
+        }
+        long[] sorted = latenciesNanos.clone();
+        Arrays.sort(sorted);
+        return sorted[(int) Math.ceil(sorted.length * 0.99) - 1];
+    }
+}
@@ -0,0 +1,38 @@
+package com.agilysys.calculator.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+/**
+ * Reports OUT_OF_SERVICE until the start-up warm-up has finished, and for good if it failed;
+ * UP once it has finished, or when warm-up is disabled.
+ * Part of the readiness group only, so a warming instance is kept out of rotation without
+ * failing its liveness probe.
+ */
+@RequiredArgsConstructor
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private final ObjectProvider<WarmupRunner> warmupRunner;
+
+    @Override
+    public Health health() {
+        WarmupRunner runner = warmupRunner.getIfAvailable();
+        if (runner == null) {
+            return Health.up().withDetail("enabled", false).build();
+        }
+        WarmupStatus status = runner.status();
+        Health.Builder builder = status.complete() && status.failure() == null ? Health.up() : Health.outOfService();
+        if (status.failure() != null) {
+            builder.withDetail("failure", status.failure());
+        }
+        return builder
+            .withDetail("stabilized", status.stabilized())
+            .withDetail("batches", status.batches())
+            .withDetail("requests", status.requests())
+            .withDetail("lastBatchP99", status.lastBatchP99().toString())
+            .withDetail("elapsed", status.elapsed().toString())
+            .build();
+    }
+}
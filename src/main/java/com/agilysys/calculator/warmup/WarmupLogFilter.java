@@ -0,0 +1,26 @@
+package com.agilysys.calculator.warmup;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+/**
+ * Logback filter that drops everything below ERROR logged while handling a warm-up request.
+ * A warm-up sends hundreds of thousands of requests, including deliberate error cases, whose
+ * per-request logging would otherwise flood the log on every deploy. Unexpected errors still get through.
+ * Registered in {@code logback-spring.xml}.
+ */
+public class WarmupLogFilter extends TurboFilter {
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+                              Throwable t) {
+        if (!level.isGreaterOrEqual(Level.ERROR) && "true".equals(MDC.get(WarmupMdcFilter.MDC_KEY))) {
+            return FilterReply.DENY;
+        }
+        return FilterReply.NEUTRAL;
+    }
+}
@@ -0,0 +1,41 @@
+package com.agilysys.calculator.warmup;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Marks requests sent by the {@link WarmupRunner} in the MDC, so that {@link WarmupLogFilter}
+ * can keep their log output out of the application log.
+ * A request is only marked if its header carries the runner's per-boot token and the warm-up is
+ * still running, so clients cannot hide their requests with the header, not even behind a local proxy.
+ */
+@RequiredArgsConstructor
+public class WarmupMdcFilter extends OncePerRequestFilter {
+
+    public static final String WARMUP_HEADER = "X-Calculator-Warmup";
+    public static final String MDC_KEY = "warmup";
+
+    private final WarmupRunner warmupRunner;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!warmupRunner.isWarmupToken(request.getHeader(WARMUP_HEADER))) {
+            chain.doFilter(request, response);
+            return;
+        }
+        MDC.put(MDC_KEY, "true");
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.agilysys.calculator.warmup;
+
+import com.agilysys.calculator.config.WarmupProperties;
+import com.agilysys.calculator.dto.CalculatorRequest;
+import com.agilysys.calculator.dto.Operation;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+
+import java.io.IOException;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Warms up the JIT before the instance takes traffic.
+ * Replays a synthetic mix of calculator requests, including error cases, over the local HTTP
+ * port so that Tomcat, Jackson binding, validation, the service and the exception handler are all
+ * compiled and inlined. It stops once p99 latency has stabilized, at least {@code minRequests} requests
+ * have been sent (enough to pass the C2 compile thresholds) and the last batch added little JIT
+ * compilation time, or when the time limit is reached. Every response must have the status expected for
+ * its request; otherwise the warm-up fails and the instance is not reported ready.
+ * Requests carry a random per-boot token in the {@link WarmupMdcFilter#WARMUP_HEADER} header, so they
+ * are not logged below ERROR.
+ * Application runners complete before Spring Boot reports {@link ReadinessState#ACCEPTING_TRAFFIC},
+ * so readiness stays down for the whole warm-up while liveness is already up.
+ */
+@Slf4j
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final String MISSING_OPERAND = "{\"num1\": null, \"num2\": 5.0, \"operation\": \"ADD\"}";
+    private static final String MISSING_OPERATION = "{\"num1\": 10.0, \"num2\": 5.0, \"operation\": null}";
+
+    private final WarmupProperties properties;
+    private final ApplicationContext context;
+    private final ObjectMapper objectMapper;
+    private final AtomicLong requests = new AtomicLong();
+    private final String token = newToken();
+
+    private volatile WarmupStatus status = WarmupStatus.pending();
+
+    public WarmupRunner(WarmupProperties properties, ApplicationContext context, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.context = context;
+        this.objectMapper = objectMapper;
+    }
+
+    public WarmupStatus status() {
+        return status;
+    }
+
+    String token() {
+        return token;
+    }
+
+    /**
+     * Returns whether a {@link WarmupMdcFilter#WARMUP_HEADER} value was sent by this runner:
+     * it must match the random token generated at start-up, and the warm-up must not have finished.
+     *
+     * @param headerValue The header value, may be null
+     */
+    public boolean isWarmupToken(String headerValue) {
+        return headerValue != null && !status.complete() && MessageDigest.isEqual(
+            token.getBytes(StandardCharsets.US_ASCII), headerValue.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        if (!(context instanceof WebServerApplicationContext webContext) || webContext.getWebServer() == null) {
+            log.info("No embedded web server, skipping warm-up");
+            status = status.completed(false, Duration.ZERO);
+            return;
+        }
+        AvailabilityChangeEvent.publish(context, ReadinessState.REFUSING_TRAFFIC);
+
+        URI target = URI.create("http://localhost:" + webContext.getWebServer().getPort() + "/api/v1/calculator/calculate");
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        var stabilizer = new LatencyStabilizer(
+            properties.minBatches(), properties.stableBatches(), properties.tolerance());
+        ExecutorService executor = Executors.newFixedThreadPool(properties.concurrency());
+
+        log.info("Starting warm-up against {} for at most {}", target, properties.maxDuration());
+        long start = System.nanoTime();
+        long deadline = start + properties.maxDuration().toNanos();
+        boolean warm = false;
+        String failure = null;
+        try {
+            long compiledMillis = compilationMillis();
+            while (System.nanoTime() < deadline && !warm) {
+                boolean latencyStable = stabilizer.record(runBatch(client, target, executor));
+                long batchCompilationMillis = compilationMillis() - compiledMillis;
+                compiledMillis += batchCompilationMillis;
+                warm = latencyStable
+                    && requests.get() >= properties.minRequests()
+                    && batchCompilationMillis <= properties.maxBatchCompilationTime().toMillis();
+                status = new WarmupStatus(false, false, stabilizer.batches(), requests.get(),
+                    Duration.ofNanos(stabilizer.lastP99Nanos()), Duration.ofNanos(System.nanoTime() - start), null);
+            }
+        } catch (IllegalStateException ex) {
+            // A stack that fails warm-up requests must not be put into rotation
+            log.error("Warm-up failed, the instance stays out of rotation", ex);
+            failure = ex.getMessage();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        status = failure != null ? status.failed(failure, elapsed) : status.completed(warm, elapsed);
+        if (warm) {
+            log.info("Warm-up finished: {}", status);
+        } else if (failure == null) {
+            log.warn("Warm-up reached its time limit before latency and JIT compilation settled: {}", status);
+        }
+    }
+
+    /**
+     * Returns the JIT compilers' accumulated compilation time, or 0 if the JVM does not report it,
+     * in which case only latency and the request count decide when the warm-up ends.
+     */
+    private static long compilationMillis() {
+        CompilationMXBean compiler = ManagementFactory.getCompilationMXBean();
+        return compiler != null && compiler.isCompilationTimeMonitoringSupported()
+            ? compiler.getTotalCompilationTime() : 0;
+    }
+
+    private long[] runBatch(HttpClient client, URI target, ExecutorService executor) throws InterruptedException {
+        int perThread = Math.max(1, properties.batchSize() / properties.concurrency());
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int t = 0; t < properties.concurrency(); t++) {
+            futures.add(executor.submit(() -> {
+                long[] latencies = new long[perThread];
+                for (int i = 0; i < perThread; i++) {
+                    latencies[i] = send(client, target, nextRequest(i));
+                }
+                return latencies;
+            }));
+        }
+
+        long[] batch = new long[perThread * futures.size()];
+        for (int t = 0; t < futures.size(); t++) {
+            try {
+                System.arraycopy(futures.get(t).get(), 0, batch, t * perThread, perThread);
+            } catch (ExecutionException ex) {
+                throw new IllegalStateException("Warm-up request failed: " + ex.getCause().getMessage(), ex.getCause());
+            }
+        }
+        return batch;
+    }
+
+    private long send(HttpClient client, URI target, WarmupRequest warmupRequest)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(target)
+            .header("Content-Type", "application/json")
+            .header(WarmupMdcFilter.WARMUP_HEADER, token)
+            .timeout(Duration.ofSeconds(5))
+            .POST(HttpRequest.BodyPublishers.ofString(warmupRequest.body()))
+            .build();
+        long start = System.nanoTime();
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        long latency = System.nanoTime() - start;
+        if (response.statusCode() != warmupRequest.expectedStatus()) {
+            throw new IllegalStateException(String.format("status %d instead of %d for %s",
+                response.statusCode(), warmupRequest.expectedStatus(), warmupRequest.body()));
+        }
+        requests.incrementAndGet();
+        return latency;
+    }
+
+    private static String newToken() {
+        byte[] bytes = new byte[32];
+        new SecureRandom().nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * Cycles through every operation with random operands, plus division by zero
+     * and validation errors so the exception handler is exercised too.
+     */
+    private WarmupRequest nextRequest(int i) throws JsonProcessingException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (i % 8) {
+            case 0, 1, 2, 3 -> new WarmupRequest(objectMapper.writeValueAsString(new CalculatorRequest(
+                random.nextDouble(-1_000, 1_000), random.nextDouble(1, 1_000), Operation.values()[i % 4])), 200);
+            case 4 -> new WarmupRequest(objectMapper.writeValueAsString(new CalculatorRequest(
+                random.nextDouble(-1_000, 1_000), random.nextDouble(-1_000, -1), Operation.values()[random.nextInt(4)])), 200);
+            case 5 -> new WarmupRequest(
+                objectMapper.writeValueAsString(new CalculatorRequest(random.nextDouble(), 0.0, Operation.DIVIDE)), 400);
+            case 6 -> new WarmupRequest(MISSING_OPERAND, 400);
+            default -> new WarmupRequest(MISSING_OPERATION, 400);
+        };
+    }
+
+    /**
+     * A warm-up request body and the status the API must answer it with.
+     */
+    private record WarmupRequest(String body, int expectedStatus) {
+    }
+}
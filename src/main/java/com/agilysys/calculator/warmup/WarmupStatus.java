@@ -0,0 +1,37 @@
+package com.agilysys.calculator.warmup;
+
+import java.time.Duration;
+
+/**
+ * Progress of the start-up warm-up.
+ *
+ * @param complete Whether the warm-up has finished
+ * @param stabilized Whether it finished because latency and JIT compilation settled rather than the time limit
+ * @param batches Number of measurement batches run
+ * @param requests Number of warm-up requests sent
+ * @param lastBatchP99 p99 latency of the most recent batch
+ * @param elapsed Time spent warming up
+ * @param failure Why the warm-up failed, or null if it did not
+ */
+public record WarmupStatus(
+    boolean complete,
+    boolean stabilized,
+    int batches,
+    long requests,
+    Duration lastBatchP99,
+    Duration elapsed,
+    String failure
+) {
+
+    static WarmupStatus pending() {
+        return new WarmupStatus(false, false, 0, 0, Duration.ZERO, Duration.ZERO, null);
+    }
+
+    WarmupStatus completed(boolean stabilized, Duration elapsed) {
+        return new WarmupStatus(true, stabilized, batches, requests, lastBatchP99, elapsed, null);
+    }
+
+    WarmupStatus failed(String failure, Duration elapsed) {
+        return new WarmupStatus(true, false, batches, requests, lastBatchP99, elapsed, failure);
+    }
+}
@@ -0,0 +1,37 @@
+package com.agilysys.calculator.config;
+
+import org.eclipse.jetty.http2.server.AbstractHTTP2ServerConnectionFactory;
+import org.eclipse.jetty.server.ConnectionFactory;
+import org.eclipse.jetty.server.Connector;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.jetty.JettyServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Jetty HTTP/2 configuration.
+ * Applies the same per-connection stream limit as the other containers; idle h2 connections are closed
+ * after {@code server.jetty.connection-idle-timeout}. Compiled only into Jetty builds.
+ */
+@Configuration
+@ConditionalOnClass(AbstractHTTP2ServerConnectionFactory.class)
+@ConditionalOnProperty(prefix = "server.http2", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(Http2Properties.class)
+public class JettyHttp2Config {
+
+    @Bean
+    public WebServerFactoryCustomizer<JettyServletWebServerFactory> jettyHttp2Customizer(Http2Properties properties) {
+        return factory -> factory.addServerCustomizers(server -> {
+            for (Connector connector : server.getConnectors()) {
+                for (ConnectionFactory connectionFactory : connector.getConnectionFactories()) {
+                    if (connectionFactory instanceof AbstractHTTP2ServerConnectionFactory http2) {
+                        http2.setMaxConcurrentStreams(properties.maxConcurrentStreams());
+                    }
+                }
+            }
+        });
+    }
+}
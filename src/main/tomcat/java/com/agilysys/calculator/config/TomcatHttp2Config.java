@@ -0,0 +1,43 @@
+package com.agilysys.calculator.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.coyote.UpgradeProtocol;
+import org.apache.coyote.http2.Http2Protocol;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tomcat HTTP/2 configuration.
+ * Spring Boot adds an {@link Http2Protocol} with Tomcat's defaults (20 streams executed per connection,
+ * a 20s keep-alive), which throttles a sidecar multiplexing many clients over a few connections well before
+ * the worker pool is busy. Compiled only into Tomcat builds (see the {@code web.container} property in pom.xml).
+ */
+@Slf4j
+@Configuration
+@ConditionalOnClass(Http2Protocol.class)
+@ConditionalOnProperty(prefix = "server.http2", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(Http2Properties.class)
+public class TomcatHttp2Config {
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> tomcatHttp2Customizer(Http2Properties properties) {
+        // Connector customizers run after Spring Boot has added the upgrade protocol
+        return factory -> factory.addConnectorCustomizers(connector -> {
+            for (UpgradeProtocol protocol : connector.findUpgradeProtocols()) {
+                if (protocol instanceof Http2Protocol http2) {
+                    http2.setMaxConcurrentStreams(properties.maxConcurrentStreams());
+                    http2.setMaxConcurrentStreamExecution(properties.maxConcurrentStreamExecution());
+                    http2.setKeepAliveTimeout(properties.keepAliveTimeout().toMillis());
+                    log.info("Tomcat h2: {} concurrent streams, {} executed, keep-alive {}",
+                        properties.maxConcurrentStreams(), properties.maxConcurrentStreamExecution(),
+                        properties.keepAliveTimeout());
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,28 @@
+package com.agilysys.calculator.config;
+
+import io.undertow.UndertowOptions;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Undertow HTTP/2 configuration.
+ * Undertow does not advertise a stream limit by default; this applies the same one as the other containers.
+ * Idle h2 connections are closed after {@code server.undertow.no-request-timeout}. Compiled only into Undertow builds.
+ */
+@Configuration
+@ConditionalOnClass(UndertowOptions.class)
+@ConditionalOnProperty(prefix = "server.http2", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(Http2Properties.class)
+public class UndertowHttp2Config {
+
+    @Bean
+    public WebServerFactoryCustomizer<UndertowServletWebServerFactory> undertowHttp2Customizer(Http2Properties properties) {
+        return factory -> factory.addBuilderCustomizers(builder ->
+            builder.setServerOption(UndertowOptions.HTTP2_SETTINGS_MAX_CONCURRENT_STREAMS, properties.maxConcurrentStreams()));
+    }
+}
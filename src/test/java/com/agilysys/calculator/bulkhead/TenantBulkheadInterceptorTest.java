@@ -0,0 +1,113 @@
+package com.agilysys.calculator.bulkhead;
+
+import com.agilysys.calculator.controller.CalculatorController;
+import com.agilysys.calculator.dto.CalculatorRequest;
+import com.agilysys.calculator.dto.CalculatorResponse;
+import com.agilysys.calculator.dto.Operation;
+import com.agilysys.calculator.exception.DivisionByZeroException;
+import com.agilysys.calculator.service.CalculatorService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * MockMvc tests for TenantBulkheadInterceptor on the calculator endpoints.
+ */
+@WebMvcTest(
+    controllers = CalculatorController.class,
+    properties = {
+        "calculator.bulkhead.overflow-partitions=1",
+        "calculator.bulkhead.overflow.max-concurrent=1",
+        "calculator.bulkhead.overflow.max-queued=0",
+        "calculator.bulkhead.tenants.acme.max-concurrent=2"
+    }
+)
+@DisplayName("Tenant Bulkhead Interceptor Tests")
+class TenantBulkheadInterceptorTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private TenantBulkheadRegistry registry;
+    
+    @MockBean
+    private CalculatorService calculatorService;
+    
+    @Test
+    @DisplayName("Should release the tenant and global slots after a successful request")
+    void testCalculate_Success_ReleasesPermit() throws Exception {
+        // Arrange
+        when(calculatorService.calculate(any(CalculatorRequest.class))).thenReturn(new CalculatorResponse(3.0, "ADD"));
+        
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/calculator/calculate")
+                .header("X-Tenant-Id", "acme")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body(1.0, 2.0, Operation.ADD)))
+                .andExpect(status().isOk());
+        
+        assertEquals(0, registry.forTenant("acme").activeCount());
+        assertEquals(0, registry.global().activeCount());
+    }
+    
+    @Test
+    @DisplayName("Should release the slots when the request ends in an error response")
+    void testCalculate_Error_ReleasesPermit() throws Exception {
+        // Arrange
+        when(calculatorService.calculate(any(CalculatorRequest.class)))
+            .thenThrow(new DivisionByZeroException("Division by zero is not allowed"));
+        
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/calculator/calculate")
+                .header("X-Tenant-Id", "acme")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body(1.0, 0.0, Operation.DIVIDE)))
+                .andExpect(status().isBadRequest());
+        
+        assertEquals(0, registry.forTenant("acme").activeCount());
+        assertEquals(0, registry.global().activeCount());
+    }
+    
+    @Test
+    @DisplayName("Should return 429 with Retry-After when the overflow bulkhead is full")
+    void testCalculate_OverflowFull_Returns429() throws Exception {
+        // Arrange
+        TenantBulkhead overflow = registry.forTenant("unknown-tenant");
+        overflow.acquire();
+        
+        try {
+            // Act & Assert
+            mockMvc.perform(post("/api/v1/calculator/calculate")
+                    .header("X-Tenant-Id", "another-unknown-tenant")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(body(1.0, 2.0, Operation.ADD)))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                    .andExpect(jsonPath("$.message").value("Too many concurrent requests for tenant overflow-0"));
+            
+            assertEquals(0, registry.global().activeCount());
+        } finally {
+            overflow.release();
+        }
+    }
+    
+    private String body(double num1, double num2, Operation operation) throws Exception {
+        return objectMapper.writeValueAsString(new CalculatorRequest(num1, num2, operation));
+    }
+}
@@ -0,0 +1,168 @@
+package com.agilysys.calculator.bulkhead;
+
+import com.agilysys.calculator.config.BulkheadProperties;
+import com.agilysys.calculator.config.BulkheadProperties.Limits;
+import com.agilysys.calculator.exception.BulkheadFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TenantBulkheadRegistry and TenantBulkhead.
+ */
+@DisplayName("Tenant Bulkhead Tests")
+class TenantBulkheadRegistryTest {
+    
+    private static final Limits ONE_SLOT = new Limits(1, 0, Duration.ofMillis(10));
+    
+    private SimpleMeterRegistry meterRegistry;
+    private TenantBulkheadRegistry registry;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new TenantBulkheadRegistry(properties(5, new Limits(2, 1, Duration.ofMillis(10))), meterRegistry);
+    }
+    
+    @Test
+    @DisplayName("Should give requests without a tenant header the default tenant's bulkhead")
+    void testForTenant_MissingHeader_UsesDefaultTenant() {
+        assertEquals("default", registry.forTenant(null).tenant());
+        assertSame(registry.forTenant(null), registry.forTenant(" "));
+        assertSame(registry.forTenant(null), registry.forTenant("default"));
+        
+        BulkheadPermit permit = registry.acquire(null);
+        
+        assertEquals(1, registry.forTenant(null).activeCount());
+        assertEquals(1, registry.global().activeCount());
+        permit.release();
+        assertEquals(0, registry.forTenant(null).activeCount());
+        assertEquals(0, registry.global().activeCount());
+    }
+    
+    @Test
+    @DisplayName("Should give dedicated bulkheads only to configured tenants")
+    void testForTenant_ConfiguredOrNot() {
+        assertEquals("acme", registry.forTenant("acme").tenant());
+        assertEquals(2, registry.forTenant("acme").limits().maxConcurrent());
+        assertTrue(registry.forTenant("other").tenant().startsWith("overflow-"));
+        assertTrue(registry.forTenant("bad tenant!").tenant().startsWith("overflow-"));
+        assertSame(registry.forTenant("other"), registry.forTenant("other"));
+    }
+    
+    @Test
+    @DisplayName("Should not grant rotating tenant ids more than the overflow partitions")
+    void testAcquire_RotatingTenantIds_ShareOverflowPartitions() {
+        int admitted = 0;
+        for (int i = 0; i < 100; i++) {
+            try {
+                registry.acquire("rotating-" + i);
+                admitted++;
+            } catch (BulkheadFullException ex) {
+                // Expected once both partitions are full
+            }
+        }
+        
+        assertEquals(2, admitted);
+        assertDoesNotThrow(() -> registry.acquire("acme"));
+        assertDoesNotThrow(() -> registry.acquire(null));
+        assertEquals(1.0, meterRegistry.get("calculator.bulkhead.active").tag("tenant", "overflow-0").gauge().value());
+        assertEquals(1.0, meterRegistry.get("calculator.bulkhead.active").tag("tenant", "overflow-1").gauge().value());
+    }
+    
+    @Test
+    @DisplayName("Should admit other tenants immediately while one tenant saturates its bulkhead")
+    void testAcquire_NoisyTenantSaturated_OthersAdmittedImmediately() throws Exception {
+        // Arrange
+        registry = new TenantBulkheadRegistry(
+            properties(5, new Limits(2, 1, Duration.ofSeconds(5))), meterRegistry = new SimpleMeterRegistry());
+        TenantBulkhead acme = registry.forTenant("acme");
+        BulkheadPermit held = registry.acquire("acme");
+        registry.acquire("acme");
+        CompletableFuture<BulkheadPermit> queued = CompletableFuture.supplyAsync(() -> registry.acquire("acme"));
+        while (acme.queuedCount() == 0) {
+            Thread.onSpinWait();
+        }
+        
+        // Act & Assert
+        assertThrows(BulkheadFullException.class, () -> registry.acquire("acme"));
+        assertTimeoutPreemptively(Duration.ofMillis(500), () -> {
+            registry.acquire(null);
+            registry.acquire("other");
+        });
+        assertEquals(0, registry.global().queuedCount());
+        
+        held.release();
+        assertDoesNotThrow(() -> queued.get(5, TimeUnit.SECONDS).release());
+    }
+    
+    @Test
+    @DisplayName("Should reject queued requests after the queue timeout")
+    void testAcquire_QueueTimeout_Rejects() {
+        TenantBulkhead acme = registry.forTenant("acme");
+        acme.acquire();
+        acme.acquire();
+        
+        assertThrows(BulkheadFullException.class, acme::acquire);
+        assertEquals(1, acme.rejectedTimeoutCount());
+        assertEquals(0, acme.queuedCount());
+    }
+    
+    @Test
+    @DisplayName("Should reject at the global limit and give back the tenant slot")
+    void testAcquire_GlobalLimitReached_ReleasesTenantSlot() {
+        registry = new TenantBulkheadRegistry(properties(1, ONE_SLOT), meterRegistry = new SimpleMeterRegistry());
+        BulkheadPermit held = registry.acquire(null);
+        
+        BulkheadFullException ex = assertThrows(BulkheadFullException.class, () -> registry.acquire("acme"));
+        
+        assertEquals("Too many concurrent requests for all tenants", ex.getMessage());
+        assertEquals(0, registry.forTenant("acme").activeCount());
+        held.release();
+        assertDoesNotThrow(() -> registry.acquire("acme"));
+    }
+    
+    @Test
+    @DisplayName("Should admit a request again after release")
+    void testRelease_FreesCapacity() {
+        BulkheadPermit permit = registry.acquire("tenant-a");
+        permit.release();
+        
+        assertDoesNotThrow(() -> registry.acquire("tenant-a"));
+        assertEquals(1, registry.forTenant("tenant-a").activeCount());
+    }
+    
+    @Test
+    @DisplayName("Should sum the tenant limits as reserved concurrency and held threads")
+    void testReservedConcurrentAndMaxThreadsHeld() {
+        BulkheadProperties properties = properties(5, new Limits(2, 1, Duration.ofMillis(10)));
+        
+        assertEquals(1 + 2 * 1 + 2, properties.reservedConcurrent());
+        assertEquals(5 + 1, properties.maxThreadsHeld());
+        assertEquals(0, properties.global().maxQueued());
+    }
+    
+    @Test
+    @DisplayName("Should reject reserved tenant ids and an entry for the default tenant")
+    void testConstructor_ReservedTenantId_Throws() {
+        for (String tenant : new String[] {"global", "overflow-0", "default"}) {
+            var properties = new BulkheadProperties(
+                true, "X-Tenant-Id", "default", 10, ONE_SLOT, ONE_SLOT, 2, Map.of(tenant, ONE_SLOT));
+            
+            assertThrows(IllegalArgumentException.class, () -> new TenantBulkheadRegistry(properties, null), tenant);
+        }
+    }
+    
+    private static BulkheadProperties properties(int globalConcurrent, Limits acme) {
+        return new BulkheadProperties(
+            true, "X-Tenant-Id", "default", globalConcurrent, ONE_SLOT, ONE_SLOT, 2, Map.of("acme", acme));
+    }
+}
@@ -0,0 +1,267 @@
+package com.agilysys.calculator.controller;
+
+import com.agilysys.calculator.config.MatrixConfig;
+import com.agilysys.calculator.dto.Matrix;
+import com.agilysys.calculator.dto.MatrixBinaryFormat;
+import com.agilysys.calculator.dto.MatrixOperation;
+import com.agilysys.calculator.dto.MatrixRequest;
+import com.agilysys.calculator.dto.MatrixResponse;
+import com.agilysys.calculator.exception.InvalidMatrixException;
+import com.agilysys.calculator.service.MatrixCalculatorService;
+import com.agilysys.calculator.service.MatrixMemoryBudget;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for MatrixController.
+ */
+@WebMvcTest(
+    controllers = MatrixController.class,
+    properties = {
+        "calculator.matrix.max-json-size=1KB",
+        "calculator.matrix.memory-budget=4KB",
+        "calculator.matrix.memory-budget-timeout=10ms"
+    }
+)
+@Import(MatrixConfig.class)
+@DisplayName("Matrix Controller Tests")
+class MatrixControllerTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private MatrixMemoryBudget matrixMemoryBudget;
+    
+    @MockBean
+    private MatrixCalculatorService matrixCalculatorService;
+    
+    @Test
+    @DisplayName("Should return 200 OK for valid JSON matrix request")
+    void testCalculate_ValidJson_Returns200() throws Exception {
+        // Arrange
+        MatrixRequest request = new MatrixRequest(
+            new Matrix(1, 2, new double[] {1, 2}), new Matrix(2, 1, new double[] {3, 4}), MatrixOperation.MULTIPLY);
+        MatrixResponse response = new MatrixResponse(new Matrix(1, 1, new double[] {11}), "MULTIPLY");
+        
+        when(matrixCalculatorService.calculate(any(MatrixRequest.class))).thenReturn(response);
+        
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/calculator/matrix")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.rows").value(1))
+                .andExpect(jsonPath("$.result.data[0]").value(11.0))
+                .andExpect(jsonPath("$.operation").value("MULTIPLY"));
+    }
+    
+    @Test
+    @DisplayName("Should return 400 Bad Request when dimensions are missing")
+    void testCalculate_MissingDimensions_Returns400() throws Exception {
+        // Arrange
+        String requestJson = "{\"left\": {\"data\": [1.0]}, \"right\": {\"rows\": 1, \"cols\": 1, \"data\": [1.0]},"
+            + " \"operation\": \"ADD\"}";
+        
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/calculator/matrix")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Validation failed"));
+    }
+    
+    @Test
+    @DisplayName("Should return 400 Bad Request for incompatible matrices")
+    void testCalculate_IncompatibleMatrices_Returns400() throws Exception {
+        // Arrange
+        MatrixRequest request = new MatrixRequest(
+            new Matrix(1, 2, new double[] {1, 2}), new Matrix(1, 2, new double[] {3, 4}), MatrixOperation.MULTIPLY);
+        
+        when(matrixCalculatorService.calculate(any(MatrixRequest.class)))
+            .thenThrow(new InvalidMatrixException("Cannot multiply 1x2 by 1x2: inner dimensions differ"));
+        
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/calculator/matrix")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Cannot multiply 1x2 by 1x2: inner dimensions differ"));
+    }
+    
+    @Test
+    @DisplayName("Should accept and return the binary matrix format")
+    void testCalculateBinary_ValidBody_Returns200() throws Exception {
+        // Arrange
+        var body = new ByteArrayOutputStream();
+        MatrixBinaryFormat.write(new Matrix(2, 2, new double[] {1, 2, 3, 4}), body);
+        MatrixBinaryFormat.write(new Matrix(2, 2, new double[] {1, 1, 1, 1}), body);
+        MatrixResponse response = new MatrixResponse(new Matrix(2, 2, new double[] {2, 3, 4, 5}), "ADD");
+        
+        when(matrixCalculatorService.calculate(any(MatrixRequest.class))).thenReturn(response);
+        
+        // Act
+        byte[] result = mockMvc.perform(post("/api/v1/calculator/matrix/ADD")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .content(body.toByteArray()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM))
+                .andReturn().getResponse().getContentAsByteArray();
+        
+        // Assert
+        Matrix matrix = MatrixBinaryFormat.read(new ByteArrayInputStream(result), 100);
+        assertArrayEquals(new double[] {2, 3, 4, 5}, matrix.data(), 0.001);
+    }
+    
+    @Test
+    @DisplayName("Should release the memory reserved for a binary request once the response is written")
+    void testCalculateBinary_Completed_ReleasesMemoryBudget() throws Exception {
+        // Arrange
+        var body = new ByteArrayOutputStream();
+        MatrixBinaryFormat.write(new Matrix(1, 1, new double[] {1}), body);
+        MatrixBinaryFormat.write(new Matrix(1, 1, new double[] {2}), body);
+        when(matrixCalculatorService.calculate(any(MatrixRequest.class)))
+            .thenReturn(new MatrixResponse(new Matrix(1, 1, new double[] {3}), "ADD"));
+        
+        // Act
+        mockMvc.perform(post("/api/v1/calculator/matrix/ADD")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .content(body.toByteArray()))
+                .andExpect(status().isOk())
+                .andExpect(header().longValue("Content-Length", 16));
+        
+        // Assert
+        assertEquals(matrixMemoryBudget.capacity(), matrixMemoryBudget.available());
+    }
+    
+    @Test
+    @DisplayName("Should return 429 with Retry-After when other requests hold the matrix memory budget")
+    void testCalculateBinary_BudgetExhausted_Returns429() throws Exception {
+        // Arrange
+        var body = new ByteArrayOutputStream();
+        MatrixBinaryFormat.write(new Matrix(1, 1, new double[] {1}), body);
+        MatrixBinaryFormat.write(new Matrix(1, 1, new double[] {2}), body);
+        var otherRequest = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(otherRequest);
+        
+        try {
+            matrixMemoryBudget.reserveForRequest().reserve(matrixMemoryBudget.capacity());
+            
+            // Act & Assert
+            mockMvc.perform(post("/api/v1/calculator/matrix/ADD")
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .content(body.toByteArray()))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                    .andExpect(jsonPath("$.message").value("Too many large matrix requests in progress"));
+        } finally {
+            otherRequest.requestCompleted();
+            RequestContextHolder.resetRequestAttributes();
+        }
+        assertEquals(matrixMemoryBudget.capacity(), matrixMemoryBudget.available());
+    }
+    
+    @Test
+    @DisplayName("Should return 400 Bad Request before allocating an operand larger than the memory budget")
+    void testCalculateBinary_AboveMemoryBudget_Returns400() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/calculator/matrix/ADD")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .content(new byte[] {0, 0, 0, 1, 0, 0, 2, 88}))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Request needs 600 matrix elements in memory, above the budget of 512"));
+    }
+    
+    @Test
+    @DisplayName("Should return 400 Bad Request for truncated binary data")
+    void testCalculateBinary_Truncated_Returns400() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/calculator/matrix/ADD")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .content(new byte[] {0, 0, 0, 2, 0, 0, 0, 2, 1}))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Matrix data is truncated"));
+    }
+    
+    @Test
+    @DisplayName("Should return 400 Bad Request for an unknown binary operation")
+    void testCalculateBinary_UnknownOperation_Returns400() throws Exception {
+        // Arrange
+        var body = new ByteArrayOutputStream();
+        MatrixBinaryFormat.write(new Matrix(1, 1, new double[] {1}), body);
+        MatrixBinaryFormat.write(new Matrix(1, 1, new double[] {2}), body);
+        
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/calculator/matrix/DIVIDE")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .content(body.toByteArray()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid value 'DIVIDE' for operation"));
+    }
+    
+    @Test
+    @DisplayName("Should return 400 Bad Request for data after the right operand")
+    void testCalculateBinary_TrailingData_Returns400() throws Exception {
+        // Arrange
+        var body = new ByteArrayOutputStream();
+        MatrixBinaryFormat.write(new Matrix(1, 1, new double[] {1}), body);
+        MatrixBinaryFormat.write(new Matrix(1, 1, new double[] {2}), body);
+        body.write(0);
+        
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/calculator/matrix/ADD")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .content(body.toByteArray()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unexpected data after the right operand"));
+    }
+    
+    @Test
+    @DisplayName("Should return 413 Payload Too Large for JSON bodies above the limit")
+    void testCalculate_JsonAboveLimit_Returns413() throws Exception {
+        // Arrange
+        MatrixRequest request = new MatrixRequest(
+            new Matrix(1, 200, new double[200]), new Matrix(1, 200, new double[200]), MatrixOperation.ADD);
+        
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/calculator/matrix")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(jsonPath("$.status").value(413));
+    }
+    
+    @Test
+    @DisplayName("Should return 400 Bad Request for malformed JSON")
+    void testCalculate_MalformedJson_Returns400() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/calculator/matrix")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"left\": "))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Malformed JSON request"));
+    }
+}
@@ -0,0 +1,153 @@
+package com.agilysys.calculator.jfr;
+
+import com.agilysys.calculator.config.JfrProperties;
+import com.agilysys.calculator.dto.CalculatorRequest;
+import com.agilysys.calculator.exception.DivisionByZeroException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JfrRecordingEndpoint.
+ */
+@DisplayName("JFR Recording Endpoint Tests")
+class JfrRecordingEndpointTest {
+    
+    private JfrRecordingEndpoint endpoint;
+    
+    @BeforeEach
+    void setUp() {
+        endpoint = new JfrRecordingEndpoint(new JfrProperties(
+            Duration.ofMillis(1), Duration.ofSeconds(60), Duration.ofMinutes(10), DataSize.ofMegabytes(10)));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        endpoint.closeRecording();
+    }
+    
+    @Test
+    @DisplayName("Should return 404 when no recording exists")
+    void testDownload_NoRecording_Returns404() throws Exception {
+        assertEquals(404, endpoint.download().getStatus());
+        assertEquals(404, endpoint.stop().getStatus());
+    }
+    
+    @Test
+    @DisplayName("Should start a recording and reject a second start")
+    void testStart_WhileRunning_Returns409() {
+        WebEndpointResponse<Map<String, Object>> started = endpoint.start(30L, null);
+        
+        assertEquals(200, started.getStatus());
+        assertEquals("RUNNING", started.getBody().get("state"));
+        assertEquals(409, endpoint.start(30L, null).getStatus());
+    }
+    
+    @Test
+    @DisplayName("Should cap the recording duration at the configured maximum")
+    void testStart_DurationAboveMaximum_IsCapped() {
+        WebEndpointResponse<Map<String, Object>> started = endpoint.start(86_400L, null);
+        
+        assertEquals(Duration.ofMinutes(10).toString(), started.getBody().get("duration"));
+    }
+    
+    @Test
+    @DisplayName("Should reject a negative event threshold without starting a recording")
+    void testStart_NegativeThreshold_Returns400() throws Exception {
+        WebEndpointResponse<Map<String, Object>> response = endpoint.start(30L, -1L);
+        
+        assertEquals(400, response.getStatus());
+        assertEquals("thresholdMillis must not be negative", response.getBody().get("message"));
+        assertEquals(404, endpoint.download().getStatus());
+    }
+    
+    @Test
+    @DisplayName("Should stop a recording and stream it as a .jfr file")
+    void testStopAndDownload_ReturnsRecording(@TempDir Path tempDir) throws Exception {
+        endpoint.start(null, 0L);
+        new ComputeEvent().complete("ADD", CalculatorEvent.SUCCESS);
+        
+        WebEndpointResponse<Map<String, Object>> stopped = endpoint.stop();
+        WebEndpointResponse<Resource> download = endpoint.download();
+        
+        assertEquals("STOPPED", stopped.getBody().get("state"));
+        assertEquals(200, download.getStatus());
+        List<RecordedEvent> events = readEvents(download.getBody(), tempDir);
+        assertTrue(events.stream().anyMatch(event ->
+                event.getEventType().getName().equals("com.agilysys.calculator.Compute")
+                    && "ADD".equals(event.getString("operation"))
+                    && CalculatorEvent.SUCCESS.equals(event.getString("outcome"))),
+            "Recording should contain the committed Compute event");
+    }
+    
+    @Test
+    @DisplayName("Should not record environment variables, system properties or JVM arguments")
+    void testDownload_ExcludesSensitiveEvents(@TempDir Path tempDir) throws Exception {
+        endpoint.start(null, null);
+        endpoint.stop();
+        
+        List<RecordedEvent> events = readEvents(endpoint.download().getBody(), tempDir);
+        
+        assertFalse(events.isEmpty());
+        assertTrue(events.stream().noneMatch(event ->
+                JfrRecordingEndpoint.SENSITIVE_EVENTS.contains(event.getEventType().getName())),
+            "Recording should not contain " + JfrRecordingEndpoint.SENSITIVE_EVENTS);
+    }
+    
+    @Test
+    @DisplayName("Should carry the parsed operation on error handling events")
+    void testErrorHandlingEvent_CarriesParsedOperation(@TempDir Path tempDir) throws Exception {
+        var converter = new JfrMappingJackson2HttpMessageConverter(new ObjectMapper());
+        var body = "{\"num1\": 10.0, \"num2\": 0.0, \"operation\": \"DIVIDE\"}".getBytes(StandardCharsets.UTF_8);
+        endpoint.start(null, 0L);
+        
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        try {
+            converter.read(CalculatorRequest.class, null, new MockHttpInputMessage(body));
+            var event = new ErrorHandlingEvent();
+            event.begin();
+            event.complete(new DivisionByZeroException("Division by zero is not allowed"), HttpStatus.BAD_REQUEST);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+        endpoint.stop();
+        
+        List<RecordedEvent> events = readEvents(endpoint.download().getBody(), tempDir);
+        assertTrue(events.stream().anyMatch(event ->
+                event.getEventType().getName().equals("com.agilysys.calculator.ErrorHandling")
+                    && "DIVIDE".equals(event.getString("operation"))
+                    && DivisionByZeroException.class.getName().equals(event.getString("exceptionType"))),
+            "Recording should contain an ErrorHandling event for DIVIDE");
+    }
+    
+    private static List<RecordedEvent> readEvents(Resource recording, Path tempDir) throws Exception {
+        Path file = tempDir.resolve("recording.jfr");
+        try (InputStream content = recording.getInputStream()) {
+            Files.copy(content, file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+}
@@ -0,0 +1,76 @@
+package com.agilysys.calculator.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Load and soak tests for the calculate endpoint.
+ * Starts the application on a random local port and drives it over real sockets with an
+ * open-model load generator, then gates the build on the configured latency and throughput SLOs.
+ * Run with {@code mvn -B verify -Pload-test}; reports are written to {@code target/load-test}.
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        // Per-request INFO logging to the Maven console would dominate the measurement
+        "logging.level.com.agilysys.calculator=WARN",
+        // The bulkhead stays in the request path, with room for a GC pause or JIT stall to queue
+        // instead of turning into 429s that count against the zero error budget. Requests carry no
+        // tenant header, so the default tenant takes nearly all of the capacity
+        "calculator.bulkhead.max-concurrent=180",
+        "calculator.bulkhead.default-tenant-limits.max-concurrent=172",
+        "calculator.bulkhead.default-tenant-limits.max-queued=12",
+        "calculator.bulkhead.default-tenant-limits.queue-timeout=10s",
+        "calculator.bulkhead.overflow-partitions=1"
+    }
+)
+@DisplayName("Calculator Load Tests")
+class CalculatorLoadIT {
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    @DisplayName("Should meet latency and throughput SLOs at a constant arrival rate")
+    void testCalculate_ConstantArrivalRate_MeetsSlo() throws Exception {
+        // Arrange
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        OpenModelLoadGenerator generator = new OpenModelLoadGenerator(
+            client, URI.create("http://localhost:" + port + "/api/v1/calculator/calculate"), settings.maxInFlight());
+
+        // Act
+        generator.run(settings.rate(), settings.warmup());
+        LoadTestResult result = generator.run(settings.rate(), settings.duration());
+        result.writeReport(Path.of("target", "load-test"), "calculate");
+        System.out.print(result.summary());
+
+        // Assert
+        assertAll(
+            () -> assertTrue(result.percentile(50.0).compareTo(settings.p50()) <= 0,
+                "p50 " + result.percentile(50.0) + " exceeds " + settings.p50()),
+            () -> assertTrue(result.percentile(99.0).compareTo(settings.p99()) <= 0,
+                "p99 " + result.percentile(99.0) + " exceeds " + settings.p99()),
+            () -> assertTrue(result.percentile(99.9).compareTo(settings.p999()) <= 0,
+                "p99.9 " + result.percentile(99.9) + " exceeds " + settings.p999()),
+            () -> assertTrue(result.throughput() >= settings.rate() * settings.minThroughputRatio(),
+                String.format("Throughput %.1f/s below %.0f%% of offered %.0f/s",
+                    result.throughput(), settings.minThroughputRatio() * 100, settings.rate())),
+            () -> assertTrue(result.errorRate() <= settings.maxErrorRate(),
+                "Error rate " + result.errorRate() + " exceeds " + settings.maxErrorRate()
+                    + ", errors by cause: " + result.errorsByCause())
+        );
+    }
+}
@@ -0,0 +1,47 @@
+package com.agilysys.calculator.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe counts of failed requests by cause, so a run with errors says what went wrong:
+ * the exception class for transport failures, or the status code for unexpected responses.
+ */
+final class ErrorCounts {
+
+    private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+    void failure(Throwable failure) {
+        Throwable cause = failure;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        increment(cause.getClass().getName());
+    }
+
+    void status(int statusCode) {
+        increment("status " + statusCode);
+    }
+
+    long total() {
+        return counts.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * Returns the counts keyed by exception class name or {@code status <code>}, sorted by key.
+     */
+    Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        counts.forEach((cause, count) -> snapshot.put(cause, count.sum()));
+        return snapshot;
+    }
+
+    private void increment(String cause) {
+        counts.computeIfAbsent(cause, key -> new LongAdder()).increment();
+    }
+}
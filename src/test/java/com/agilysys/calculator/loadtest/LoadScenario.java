@@ -0,0 +1,53 @@
+package com.agilysys.calculator.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Request mix driven by the load generator.
+ * Weights are relative shares of the total arrival rate; error cases are part of the mix
+ * so the exception handling path is measured alongside the happy path.
+ */
+enum LoadScenario {
+    ADD(30, 200, "{\"num1\": 10.5, \"num2\": 5.2, \"operation\": \"ADD\"}"),
+    SUBTRACT(20, 200, "{\"num1\": 20.0, \"num2\": 8.5, \"operation\": \"SUBTRACT\"}"),
+    MULTIPLY(20, 200, "{\"num1\": 7.0, \"num2\": 6.0, \"operation\": \"MULTIPLY\"}"),
+    DIVIDE(15, 200, "{\"num1\": 50.0, \"num2\": 10.0, \"operation\": \"DIVIDE\"}"),
+    DIVISION_BY_ZERO(10, 400, "{\"num1\": 10.0, \"num2\": 0.0, \"operation\": \"DIVIDE\"}"),
+    VALIDATION_ERROR(5, 400, "{\"num1\": null, \"num2\": 5.0, \"operation\": \"ADD\"}");
+
+    private final int weight;
+    private final int expectedStatus;
+    private final String body;
+
+    LoadScenario(int weight, int expectedStatus, String body) {
+        this.weight = weight;
+        this.expectedStatus = expectedStatus;
+        this.body = body;
+    }
+
+    int expectedStatus() {
+        return expectedStatus;
+    }
+
+    String body() {
+        return body;
+    }
+
+    /**
+     * Expands the weights into a shuffled sequence the generator cycles through.
+     * A fixed seed keeps runs comparable with each other.
+     */
+    static LoadScenario[] weightedSequence() {
+        List<LoadScenario> sequence = new ArrayList<>();
+        for (LoadScenario scenario : values()) {
+            for (int i = 0; i < scenario.weight; i++) {
+                sequence.add(scenario);
+            }
+        }
+        Collections.shuffle(sequence, new Random(42));
+        return sequence.toArray(LoadScenario[]::new);
+    }
+}
@@ -0,0 +1,77 @@
+package com.agilysys.calculator.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Outcome of a single load generator run.
+ *
+ * @param offeredRate Requests per second the generator was asked to issue
+ * @param elapsed Wall-clock time from the first intended start to the last completion
+ * @param completed Number of requests that completed (successfully or not)
+ * @param errors Number of transport failures and responses with an unexpected status
+ * @param errorsByCause Errors by exception class name or {@code status <code>}
+ * @param overall Latency histogram across the whole mix, in nanoseconds
+ * @param byScenario Latency histograms per scenario, in nanoseconds
+ */
+record LoadTestResult(
+    double offeredRate,
+    Duration elapsed,
+    long completed,
+    long errors,
+    Map<String, Long> errorsByCause,
+    Histogram overall,
+    Map<LoadScenario, Histogram> byScenario
+) {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    Duration percentile(double percentile) {
+        return Duration.ofNanos(overall.getValueAtPercentile(percentile));
+    }
+
+    double throughput() {
+        return completed / (elapsed.toNanos() / 1_000_000_000.0);
+    }
+
+    double errorRate() {
+        return completed == 0 ? 0.0 : (double) errors / completed;
+    }
+
+    String summary() {
+        StringBuilder summary = new StringBuilder()
+            .append(String.format("offered=%.0f/s achieved=%.1f/s completed=%d errors=%d%n",
+                offeredRate, throughput(), completed, errors))
+            .append(String.format("p50=%.3fms p99=%.3fms p99.9=%.3fms max=%.3fms%n",
+                overall.getValueAtPercentile(50.0) / NANOS_PER_MILLI,
+                overall.getValueAtPercentile(99.0) / NANOS_PER_MILLI,
+                overall.getValueAtPercentile(99.9) / NANOS_PER_MILLI,
+                overall.getMaxValue() / NANOS_PER_MILLI));
+        errorsByCause.forEach((cause, count) -> summary.append(String.format(
+            "  error %-40s count=%d%n", cause, count)));
+        byScenario.forEach((scenario, histogram) -> summary.append(String.format(
+            "  %-16s count=%d p50=%.3fms p99=%.3fms%n",
+            scenario, histogram.getTotalCount(),
+            histogram.getValueAtPercentile(50.0) / NANOS_PER_MILLI,
+            histogram.getValueAtPercentile(99.0) / NANOS_PER_MILLI)));
+        return summary.toString();
+    }
+
+    /**
+     * Writes the summary and the full percentile distribution (in milliseconds, HdrHistogram
+     * {@code .hgrm} format) so runs can be compared or plotted afterwards.
+     */
+    void writeReport(Path directory, String name) throws IOException {
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve(name + "-summary.txt"), summary());
+        try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(name + ".hgrm")))) {
+            overall.outputPercentileDistribution(out, NANOS_PER_MILLI);
+        }
+    }
+}
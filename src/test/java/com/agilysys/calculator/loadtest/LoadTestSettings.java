@@ -0,0 +1,45 @@
+package com.agilysys.calculator.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Load test configuration and SLO thresholds.
+ * Values come from system properties set by the {@code load-test} Maven profile,
+ * so a run can be tuned from the command line, e.g. {@code -Dloadtest.durationSeconds=1800} for a soak.
+ *
+ * @param rate Offered load in requests per second
+ * @param warmup Warm-up phase whose latencies are discarded
+ * @param duration Measured phase
+ * @param maxInFlight Upper bound on outstanding requests held by the generator
+ * @param p50 Maximum allowed median latency
+ * @param p99 Maximum allowed 99th percentile latency
+ * @param p999 Maximum allowed 99.9th percentile latency
+ * @param minThroughputRatio Minimum achieved throughput as a fraction of the offered rate
+ * @param maxErrorRate Maximum fraction of responses with an unexpected status or transport error
+ */
+record LoadTestSettings(
+    double rate,
+    Duration warmup,
+    Duration duration,
+    int maxInFlight,
+    Duration p50,
+    Duration p99,
+    Duration p999,
+    double minThroughputRatio,
+    double maxErrorRate
+) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+            Double.parseDouble(System.getProperty("loadtest.rate", "500")),
+            Duration.ofSeconds(Long.getLong("loadtest.warmupSeconds", 10)),
+            Duration.ofSeconds(Long.getLong("loadtest.durationSeconds", 30)),
+            Integer.getInteger("loadtest.maxInFlight", 256),
+            Duration.ofMillis(Long.getLong("loadtest.slo.p50Millis", 10)),
+            Duration.ofMillis(Long.getLong("loadtest.slo.p99Millis", 50)),
+            Duration.ofMillis(Long.getLong("loadtest.slo.p999Millis", 200)),
+            Double.parseDouble(System.getProperty("loadtest.slo.minThroughputRatio", "0.95")),
+            Double.parseDouble(System.getProperty("loadtest.slo.maxErrorRate", "0.0"))
+        );
+    }
+}
@@ -0,0 +1,98 @@
+package com.agilysys.calculator.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model (constant-arrival-rate) load generator.
+ * Requests are issued on a fixed schedule regardless of how quickly earlier ones complete,
+ * and latency is measured from each request's intended start time rather than the time it
+ * was actually sent. A stalled server therefore shows up as latency instead of silently
+ * lowering the offered load (coordinated omission).
+ */
+class OpenModelLoadGenerator {
+
+    private final HttpClient client;
+    private final URI target;
+    private final int maxInFlight;
+    private final LoadScenario[] sequence = LoadScenario.weightedSequence();
+
+    OpenModelLoadGenerator(HttpClient client, URI target, int maxInFlight) {
+        this.client = client;
+        this.target = target;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Drives the target at the given rate for the given duration and waits for all
+     * outstanding requests to complete.
+     *
+     * @param rate Requests per second
+     * @param duration How long to keep issuing requests
+     * @return Latency histograms and counters for the run
+     */
+    LoadTestResult run(double rate, Duration duration) throws InterruptedException {
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long total = (long) (rate * duration.toNanos() / TimeUnit.SECONDS.toNanos(1));
+
+        Histogram overall = new ConcurrentHistogram(3);
+        Map<LoadScenario, Histogram> byScenario = new EnumMap<>(LoadScenario.class);
+        for (LoadScenario scenario : LoadScenario.values()) {
+            byScenario.put(scenario, new ConcurrentHistogram(3));
+        }
+        LongAdder completed = new LongAdder();
+        ErrorCounts errors = new ErrorCounts();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+
+        long start = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long intendedStart = start + i * intervalNanos;
+            long wait;
+            while ((wait = intendedStart - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            // Blocking here delays the send but not the intended start, so the wait is still counted.
+            inFlight.acquire();
+
+            LoadScenario scenario = sequence[(int) (i % sequence.length)];
+            HttpRequest request = HttpRequest.newBuilder(target)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(scenario.body()))
+                .build();
+
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, failure) -> {
+                    long latency = System.nanoTime() - intendedStart;
+                    overall.recordValue(latency);
+                    byScenario.get(scenario).recordValue(latency);
+                    if (failure != null) {
+                        errors.failure(failure);
+                    } else if (response.statusCode() != scenario.expectedStatus()) {
+                        errors.status(response.statusCode());
+                    }
+                    completed.increment();
+                    inFlight.release();
+                });
+        }
+
+        if (!inFlight.tryAcquire(maxInFlight, 1, TimeUnit.MINUTES)) {
+            throw new IllegalStateException("Requests still outstanding one minute after the run ended");
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        return new LoadTestResult(
+            rate, elapsed, completed.sum(), errors.total(), errors.snapshot(), overall, byScenario);
+    }
+}
@@ -0,0 +1,138 @@
+package com.agilysys.calculator.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Client side of {@link ProtocolComparisonBenchmarkIT}, run in its own JVM so that the client's heap,
+ * buffers and connection pool do not show up in the server's memory figures, and so that nothing of
+ * one protocol's client is still alive while the other protocol is measured.
+ * <p>
+ * Runs a constant-rate (open model) phase, then a closed-loop saturation phase that steps through
+ * increasing concurrency levels to find the highest sustainable throughput. Results are printed as
+ * {@code key=value} lines on standard output, followed by {@code READY}; errors are listed per phase as
+ * {@code open.error.<cause>} and {@code saturation.error.<cause>}, where the cause is an exception class
+ * name or {@code status <code>}. The client then keeps its
+ * connections open until standard input is closed, so the server can be measured with idle connections.
+ * <p>
+ * Arguments: port, {@code HTTP_1_1} or {@code HTTP_2}, rate, warm-up seconds, duration seconds,
+ * max in flight, comma-separated saturation concurrency levels, seconds per saturation step.
+ */
+final class ProtocolBenchmarkClient {
+
+    private ProtocolBenchmarkClient() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int port = Integer.parseInt(args[0]);
+        HttpClient.Version version = HttpClient.Version.valueOf(args[1]);
+        double rate = Double.parseDouble(args[2]);
+        Duration warmup = Duration.ofSeconds(Long.parseLong(args[3]));
+        Duration duration = Duration.ofSeconds(Long.parseLong(args[4]));
+        int maxInFlight = Integer.parseInt(args[5]);
+        int[] concurrencyLevels = Arrays.stream(args[6].split(","))
+            .map(String::trim)
+            .mapToInt(Integer::parseInt)
+            .toArray();
+        Duration step = Duration.ofSeconds(Long.parseLong(args[7]));
+
+        HttpClient client = HttpClient.newBuilder()
+            .version(version)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        URI target = URI.create("http://localhost:" + port + "/api/v1/calculator/calculate");
+
+        // Establish (and for h2c, upgrade) the first connection before concurrent requests start
+        HttpResponse<Void> probe = client.send(
+            HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health")).GET().build(),
+            HttpResponse.BodyHandlers.discarding());
+        System.out.println("negotiated=" + probe.version());
+
+        var generator = new OpenModelLoadGenerator(client, target, maxInFlight);
+        generator.run(rate, warmup);
+        LoadTestResult result = generator.run(rate, duration);
+        System.out.println("open.throughput=" + result.throughput());
+        System.out.println("open.p50Nanos=" + result.percentile(50.0).toNanos());
+        System.out.println("open.p99Nanos=" + result.percentile(99.0).toNanos());
+        System.out.println("open.errors=" + result.errors());
+        result.errorsByCause().forEach((cause, count) -> System.out.println("open.error." + cause + "=" + count));
+
+        double best = 0.0;
+        int bestConcurrency = 0;
+        ErrorCounts saturationErrors = new ErrorCounts();
+        for (int concurrency : concurrencyLevels) {
+            double throughput = closedLoop(client, target, concurrency, step, saturationErrors);
+            System.out.println("closed." + concurrency + ".throughput=" + throughput);
+            if (throughput > best) {
+                best = throughput;
+                bestConcurrency = concurrency;
+            }
+        }
+        System.out.println("saturation.throughput=" + best);
+        System.out.println("saturation.concurrency=" + bestConcurrency);
+        System.out.println("saturation.errors=" + saturationErrors.total());
+        saturationErrors.snapshot().forEach((cause, count) ->
+            System.out.println("saturation.error." + cause + "=" + count));
+        System.out.println("READY");
+        System.out.flush();
+
+        // Hold the connections open until the benchmark has measured the server
+        while (System.in.read() != -1) {
+            // Wait for end of input
+        }
+    }
+
+    /**
+     * Sends requests back to back from {@code concurrency} threads, each starting the next request
+     * as soon as the previous one completes, and returns the completed requests per second.
+     * Failures and unexpected statuses are added to {@code errors}.
+     */
+    private static double closedLoop(HttpClient client, URI target, int concurrency, Duration duration,
+                                     ErrorCounts errors) throws InterruptedException {
+        LoadScenario[] sequence = LoadScenario.weightedSequence();
+        LongAdder completed = new LongAdder();
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < concurrency; t++) {
+            int offset = t;
+            Thread worker = new Thread(() -> {
+                for (long i = offset; System.nanoTime() < deadline; i += concurrency) {
+                    LoadScenario scenario = sequence[(int) (i % sequence.length)];
+                    HttpRequest request = HttpRequest.newBuilder(target)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(scenario.body()))
+                        .build();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != scenario.expectedStatus()) {
+                            errors.status(response.statusCode());
+                        }
+                    } catch (IOException ex) {
+                        errors.failure(ex);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    completed.increment();
+                }
+            }, "saturation-" + t);
+            worker.start();
+            workers.add(worker);
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        return completed.sum() / seconds;
+    }
+}
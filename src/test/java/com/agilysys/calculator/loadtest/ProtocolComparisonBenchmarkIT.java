@@ -0,0 +1,212 @@
+package com.agilysys.calculator.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares HTTP/1.1 and HTTP/2 cleartext (h2c) for small calculation requests.
+ * <p>
+ * Each protocol is driven by a {@link ProtocolBenchmarkClient} in a separate JVM, started only after
+ * the previous protocol's client has exited, so the memory figures below belong to the server alone.
+ * The client first runs at a constant arrival rate (latency at a fixed load), then steps up a
+ * closed loop of back-to-back requests to find the highest throughput each protocol sustains.
+ * With the client's connections still open, the server's heap and direct memory are compared with a
+ * baseline taken before the client started and reported per connection.
+ * <p>
+ * Run with {@code mvn -B verify -Pbenchmark} (add {@code -Dweb.container=jetty} or {@code undertow}
+ * to benchmark another container); the report is written to {@code target/benchmark}.
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "server.http2.enabled=true",
+        "logging.level.com.agilysys.calculator=WARN",
+        // A single client would otherwise be throttled by the default tenant's bulkhead
+        "calculator.bulkhead.enabled=false"
+    }
+)
+@DisplayName("HTTP Protocol Benchmarks")
+class ProtocolComparisonBenchmarkIT {
+
+    private static final double BYTES_PER_KB = 1024.0;
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    @DisplayName("Should compare HTTP/1.1 and h2c for small calculation requests")
+    void testCalculate_Http11VersusH2c() throws Exception {
+        // Arrange
+        List<String> settings = List.of(
+            System.getProperty("benchmark.rate", "2000"),
+            String.valueOf(Long.getLong("benchmark.warmupSeconds", 10)),
+            String.valueOf(Long.getLong("benchmark.durationSeconds", 20)),
+            String.valueOf(Integer.getInteger("benchmark.maxInFlight", 512)),
+            // Kept below calculator.http2.max-concurrent-streams and max-concurrent-stream-execution (128)
+            System.getProperty("benchmark.saturation.concurrency", "8,32,64"),
+            String.valueOf(Long.getLong("benchmark.saturation.stepSeconds", 10)));
+
+        // Act
+        ProtocolRun http11 = run(HttpClient.Version.HTTP_1_1, settings);
+        ProtocolRun h2c = run(HttpClient.Version.HTTP_2, settings);
+
+        String report = String.format("%-10s %-11s %-15s %-17s %-12s %-10s %-10s %-16s%n",
+                "protocol", "connections", "heap/conn (KB)", "direct/conn (KB)", "throughput",
+                "p50 (ms)", "p99 (ms)", "max throughput")
+            + http11.line() + h2c.line()
+            + http11.errorLines() + h2c.errorLines();
+        Files.createDirectories(Path.of("target", "benchmark"));
+        Files.writeString(Path.of("target", "benchmark", "protocol-comparison.txt"), report);
+        System.out.print(report);
+
+        // Assert
+        assertAll(
+            () -> assertEquals(HttpClient.Version.HTTP_2, h2c.negotiated(), "h2c was not negotiated"),
+            () -> assertEquals(0, http11.errors(), "HTTP/1.1 run had errors: " + http11.errorsByCause()),
+            () -> assertEquals(0, h2c.errors(), "h2c run had errors: " + h2c.errorsByCause()),
+            () -> assertTrue(h2c.connections() <= 2,
+                "h2c should multiplex over a single connection but opened " + h2c.connections())
+        );
+    }
+
+    private ProtocolRun run(HttpClient.Version version, List<String> settings) throws Exception {
+        Set<Integer> before = TcpConnections.clientPortsConnectedTo(port);
+        ServerMemory baseline = ServerMemory.measure();
+
+        List<String> command = new ArrayList<>(List.of(
+            Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+            "-Xmx256m",
+            "-cp", System.getProperty("java.class.path"),
+            ProtocolBenchmarkClient.class.getName(),
+            String.valueOf(port), version.name()));
+        command.addAll(settings);
+        Process client = new ProcessBuilder(command)
+            .redirectError(ProcessBuilder.Redirect.INHERIT)
+            .start();
+
+        try {
+            Map<String, String> results = new HashMap<>();
+            Map<String, Long> errorsByCause = new TreeMap<>();
+            BufferedReader output = new BufferedReader(
+                new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8));
+            for (String line = output.readLine(); line != null && !line.equals("READY"); line = output.readLine()) {
+                int separator = line.indexOf('=');
+                if (separator > 0) {
+                    String key = line.substring(0, separator);
+                    String value = line.substring(separator + 1);
+                    int error = key.indexOf(".error.");
+                    if (error > 0) {
+                        // e.g. "saturation.error.java.io.IOException" -> "saturation java.io.IOException"
+                        errorsByCause.put(key.substring(0, error) + " " + key.substring(error + ".error.".length()),
+                            Long.parseLong(value));
+                    } else {
+                        results.put(key, value);
+                    }
+                }
+            }
+            assertTrue(results.containsKey("saturation.throughput"),
+                version + " client exited without results: " + results);
+
+            // The client holds its connections open until its standard input is closed
+            Set<Integer> opened = TcpConnections.clientPortsConnectedTo(port);
+            opened.removeAll(before);
+            ServerMemory loaded = ServerMemory.measure();
+
+            return new ProtocolRun(
+                version,
+                HttpClient.Version.valueOf(results.get("negotiated")),
+                opened.size(),
+                loaded.heapBytes() - baseline.heapBytes(),
+                loaded.directBytes() - baseline.directBytes(),
+                Double.parseDouble(results.get("open.throughput")),
+                Long.parseLong(results.get("open.p50Nanos")),
+                Long.parseLong(results.get("open.p99Nanos")),
+                Double.parseDouble(results.get("saturation.throughput")),
+                Integer.parseInt(results.get("saturation.concurrency")),
+                Long.parseLong(results.get("open.errors")) + Long.parseLong(results.get("saturation.errors")),
+                errorsByCause);
+        } finally {
+            client.getOutputStream().close();
+            if (!client.waitFor(1, TimeUnit.MINUTES)) {
+                client.destroyForcibly();
+            }
+        }
+    }
+
+    /**
+     * Heap and direct memory in use by this JVM, which only hosts the server under test.
+     */
+    private record ServerMemory(long heapBytes, long directBytes) {
+
+        static ServerMemory measure() {
+            System.gc();
+            long heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+            long direct = ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+                .filter(pool -> pool.getName().equals("direct"))
+                .mapToLong(BufferPoolMXBean::getMemoryUsed)
+                .sum();
+            return new ServerMemory(heap, direct);
+        }
+    }
+
+    private record ProtocolRun(
+        HttpClient.Version requested,
+        HttpClient.Version negotiated,
+        int connections,
+        long heapDeltaBytes,
+        long directDeltaBytes,
+        double throughput,
+        long p50Nanos,
+        long p99Nanos,
+        double maxThroughput,
+        int maxThroughputConcurrency,
+        long errors,
+        Map<String, Long> errorsByCause
+    ) {
+
+        String line() {
+            int perConnection = Math.max(connections, 1);
+            return String.format("%-10s %-11d %-15.1f %-17.1f %-12.1f %-10.3f %-10.3f %.1f @ %d%n",
+                requested == HttpClient.Version.HTTP_2 ? "h2c" : "HTTP/1.1",
+                connections,
+                heapDeltaBytes / BYTES_PER_KB / perConnection,
+                directDeltaBytes / BYTES_PER_KB / perConnection,
+                throughput,
+                p50Nanos / 1_000_000.0,
+                p99Nanos / 1_000_000.0,
+                maxThroughput,
+                maxThroughputConcurrency);
+        }
+
+        /**
+         * Lists errors by phase and cause (exception class or status code), or nothing for a clean run.
+         */
+        String errorLines() {
+            StringBuilder lines = new StringBuilder();
+            String protocol = requested == HttpClient.Version.HTTP_2 ? "h2c" : "HTTP/1.1";
+            errorsByCause.forEach((cause, count) ->
+                lines.append(String.format("%-10s error %-50s count=%d%n", protocol, cause, count)));
+            return lines.toString();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.agilysys.calculator.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reads established TCP connections from {@code /proc/net/tcp} and {@code /proc/net/tcp6} (Linux only).
+ */
+final class TcpConnections {
+
+    private static final List<Path> TABLES = List.of(Path.of("/proc/net/tcp"), Path.of("/proc/net/tcp6"));
+    private static final String ESTABLISHED = "01";
+
+    private TcpConnections() {
+    }
+
+    /**
+     * Returns the local ports of all established client connections to the given server port.
+     * Taking the difference of two snapshots yields the connections a client opened in between.
+     */
+    static Set<Integer> clientPortsConnectedTo(int serverPort) throws IOException {
+        Set<Integer> ports = new HashSet<>();
+        for (Path table : TABLES) {
+            if (!Files.isReadable(table)) {
+                continue;
+            }
+            List<String> lines = Files.readAllLines(table);
+            for (String line : lines.subList(1, lines.size())) {
+                String[] fields = line.trim().split("\\s+");
+                if (fields[3].equals(ESTABLISHED) && port(fields[2]) == serverPort) {
+                    ports.add(port(fields[1]));
+                }
+            }
+        }
+        return ports;
+    }
+
+    private static int port(String hexAddress) {
+        return Integer.parseInt(hexAddress.substring(hexAddress.lastIndexOf(':') + 1), 16);
+    }
+}
@@ -0,0 +1,196 @@
+package com.agilysys.calculator.service;
+
+import com.agilysys.calculator.config.MatrixProperties;
+import com.agilysys.calculator.dto.Matrix;
+import com.agilysys.calculator.dto.MatrixOperation;
+import com.agilysys.calculator.dto.MatrixRequest;
+import com.agilysys.calculator.dto.MatrixResponse;
+import com.agilysys.calculator.exception.InvalidMatrixException;
+import com.agilysys.calculator.exception.SingularMatrixException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MatrixCalculatorServiceImpl.
+ */
+@DisplayName("Matrix Calculator Service Tests")
+class MatrixCalculatorServiceImplTest {
+    
+    private ForkJoinPool pool;
+    private MatrixCalculatorService matrixCalculatorService;
+    
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(2);
+        matrixCalculatorService = new MatrixCalculatorServiceImpl(limits(1_000_000, 100_000_000L), pool);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+    
+    @Test
+    @DisplayName("Should add two matrices element-wise")
+    void testAdd() {
+        Matrix result = matrixCalculatorService.add(
+            new Matrix(2, 2, new double[] {1, 2, 3, 4}), new Matrix(2, 2, new double[] {10, 20, 30, 40}));
+        assertArrayEquals(new double[] {11, 22, 33, 44}, result.data(), 0.001);
+    }
+    
+    @Test
+    @DisplayName("Should subtract two matrices element-wise")
+    void testSubtract() {
+        Matrix result = matrixCalculatorService.subtract(
+            new Matrix(1, 3, new double[] {5, 5, 5}), new Matrix(1, 3, new double[] {1, 2, 3}));
+        assertArrayEquals(new double[] {4, 3, 2}, result.data(), 0.001);
+    }
+    
+    @Test
+    @DisplayName("Should multiply non-square matrices")
+    void testMultiply_NonSquare() {
+        Matrix result = matrixCalculatorService.multiply(
+            new Matrix(2, 3, new double[] {1, 2, 3, 4, 5, 6}), new Matrix(3, 2, new double[] {7, 8, 9, 10, 11, 12}));
+        assertEquals(2, result.rows());
+        assertEquals(2, result.cols());
+        assertArrayEquals(new double[] {58, 64, 139, 154}, result.data(), 0.001);
+    }
+    
+    @ParameterizedTest
+    @DisplayName("Should match the naive product across tile boundaries")
+    @CsvSource({
+        "1, 1, 1",
+        "63, 65, 64",
+        "130, 70, 129",
+        "200, 200, 200"
+    })
+    void testMultiply_MatchesNaiveProduct(int n, int k, int m) {
+        Matrix a = random(n, k, 1);
+        Matrix b = random(k, m, 2);
+        
+        Matrix result = matrixCalculatorService.multiply(a, b);
+        
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < m; j++) {
+                double expected = 0.0;
+                for (int p = 0; p < k; p++) {
+                    expected += a.data()[i * k + p] * b.data()[p * m + j];
+                }
+                assertEquals(expected, result.data()[i * m + j], 1e-9);
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Should solve a linear system")
+    void testSolve() {
+        // 2x + y = 5, x + 3y = 10  =>  x = 1, y = 3
+        Matrix result = matrixCalculatorService.solve(
+            new Matrix(2, 2, new double[] {2, 1, 1, 3}), new Matrix(2, 1, new double[] {5, 10}));
+        assertArrayEquals(new double[] {1, 3}, result.data(), 1e-9);
+    }
+    
+    @Test
+    @DisplayName("Should solve a larger system with several right-hand sides")
+    void testSolve_MultipleRightHandSides() {
+        Matrix a = random(150, 150, 3);
+        Matrix expected = random(150, 4, 4);
+        Matrix b = matrixCalculatorService.multiply(a, expected);
+        
+        Matrix result = matrixCalculatorService.solve(a, b);
+        
+        assertArrayEquals(expected.data(), result.data(), 1e-6);
+    }
+    
+    @Test
+    @DisplayName("Should need pivoting when the leading element is zero")
+    void testSolve_ZeroLeadingElement() {
+        Matrix result = matrixCalculatorService.solve(
+            new Matrix(2, 2, new double[] {0, 1, 1, 0}), new Matrix(2, 1, new double[] {2, 3}));
+        assertArrayEquals(new double[] {3, 2}, result.data(), 1e-9);
+    }
+    
+    @Test
+    @DisplayName("Should throw exception when solving a singular system")
+    void testSolve_Singular_ThrowsException() {
+        SingularMatrixException exception = assertThrows(
+            SingularMatrixException.class,
+            () -> matrixCalculatorService.solve(
+                new Matrix(2, 2, new double[] {1, 2, 2, 4}), new Matrix(2, 1, new double[] {1, 1}))
+        );
+        assertEquals("Matrix is singular and the system cannot be solved", exception.getMessage());
+    }
+    
+    @Test
+    @DisplayName("Should reject incompatible shapes")
+    void testIncompatibleShapes_ThrowException() {
+        Matrix twoByThree = new Matrix(2, 3, new double[6]);
+        assertThrows(InvalidMatrixException.class, () -> matrixCalculatorService.add(twoByThree, new Matrix(3, 2, new double[6])));
+        assertThrows(InvalidMatrixException.class, () -> matrixCalculatorService.multiply(twoByThree, twoByThree));
+        assertThrows(InvalidMatrixException.class, () -> matrixCalculatorService.solve(twoByThree, new Matrix(2, 1, new double[2])));
+    }
+    
+    @Test
+    @DisplayName("Should reject data that does not match the dimensions")
+    void testDataLengthMismatch_ThrowsException() {
+        assertThrows(InvalidMatrixException.class, () -> matrixCalculatorService.add(
+            new Matrix(2, 2, new double[3]), new Matrix(2, 2, new double[4])));
+    }
+    
+    @Test
+    @DisplayName("Should reject matrices above the element limit")
+    void testElementLimit_ThrowsException() {
+        var limited = new MatrixCalculatorServiceImpl(limits(4, 100_000_000L), pool);
+        assertThrows(InvalidMatrixException.class, () -> limited.multiply(
+            new Matrix(3, 1, new double[3]), new Matrix(1, 3, new double[3])));
+    }
+    
+    @Test
+    @DisplayName("Should reject multiplications and solves above the work limits")
+    void testWorkLimit_ThrowsException() {
+        var limited = new MatrixCalculatorServiceImpl(limits(1_000_000, 999L), pool);
+        Matrix tenByTen = random(10, 10, 5);
+        Matrix nineByNine = random(9, 9, 6);
+        
+        assertThrows(InvalidMatrixException.class, () -> limited.multiply(tenByTen, tenByTen));
+        assertThrows(InvalidMatrixException.class, () -> limited.solve(tenByTen, random(10, 1, 7)));
+        assertDoesNotThrow(() -> limited.multiply(nineByNine, nineByNine));
+    }
+    
+    @Test
+    @DisplayName("Should perform calculation using calculate method")
+    void testCalculate() {
+        MatrixRequest request = new MatrixRequest(
+            new Matrix(1, 2, new double[] {1, 2}), new Matrix(2, 1, new double[] {3, 4}), MatrixOperation.MULTIPLY);
+        
+        MatrixResponse response = matrixCalculatorService.calculate(request);
+        
+        assertArrayEquals(new double[] {11}, response.result().data(), 0.001);
+        assertEquals("MULTIPLY", response.operation());
+    }
+    
+    private static MatrixProperties limits(int maxElements, long maxOps) {
+        return new MatrixProperties(
+            maxElements, DataSize.ofMegabytes(1), maxOps, maxOps, 2, DataSize.ofMegabytes(64), Duration.ofSeconds(1));
+    }
+    
+    private static Matrix random(int rows, int cols, long seed) {
+        Random random = new Random(seed);
+        double[] data = new double[rows * cols];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = random.nextDouble() * 2 - 1;
+        }
+        return new Matrix(rows, cols, data);
+    }
+}
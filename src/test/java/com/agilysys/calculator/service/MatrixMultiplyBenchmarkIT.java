@@ -0,0 +1,111 @@
+package com.agilysys.calculator.service;
+
+import com.agilysys.calculator.config.MatrixConfig;
+import com.agilysys.calculator.config.MatrixProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GFLOP/s benchmark of the matrix multiplication kernel at several square sizes, comparing
+ * the tiled kernel on one thread, on the endpoint's pool ({@code calculator.matrix.parallelism},
+ * half of the cores by default) and across all cores with a naive triple loop. The endpoint
+ * column is what a single request can reach.
+ * Run with {@code mvn -B verify -Pbenchmark}; sizes can be set with
+ * {@code -Dbenchmark.matrix.sizes=256,512,1024}. The report is written to {@code target/benchmark}.
+ */
+@DisplayName("Matrix Multiply Benchmarks")
+class MatrixMultiplyBenchmarkIT {
+
+    /** The naive loop gets slow quickly; it is only run up to this size for reference. */
+    private static final int NAIVE_MAX_SIZE = 512;
+
+    @Test
+    @DisplayName("Should report GFLOP/s of the matrix multiplication kernels")
+    void testMultiply_GflopsBySize() throws Exception {
+        int[] sizes = Arrays.stream(System.getProperty("benchmark.matrix.sizes", "128,256,512,1024,2048").split(","))
+            .map(String::trim)
+            .mapToInt(Integer::parseInt)
+            .toArray();
+
+        // The endpoint's pool, built as in MatrixConfig, and one thread per core for reference
+        var properties = new MatrixProperties(4_194_304, DataSize.ofMegabytes(16), Long.MAX_VALUE, Long.MAX_VALUE,
+            Integer.getInteger("calculator.matrix.parallelism", 0), DataSize.ofBytes(0), Duration.ofSeconds(1));
+        ForkJoinPool servicePool = new MatrixConfig().matrixForkJoinPool(properties);
+        ForkJoinPool allCores = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        StringBuilder report = new StringBuilder(String.format("%-6s %-14s %-16s %-24s %-24s%n",
+            "size", "naive GFLOP/s", "tiled 1 thread",
+            "tiled endpoint (" + servicePool.getParallelism() + " thr)",
+            "tiled all cores (" + allCores.getParallelism() + " thr)"));
+        for (int n : sizes) {
+            double[] a = random(n * n, 1);
+            double[] b = random(n * n, 2);
+
+            double naive = n <= NAIVE_MAX_SIZE ? gflops(n, () -> naiveMultiply(a, b, n)) : Double.NaN;
+            double sequential = gflops(n, () -> MatrixKernels.multiply(a, b, n, n, n, null));
+            double endpoint = gflops(n, () -> MatrixKernels.multiply(a, b, n, n, n, servicePool));
+            double parallel = gflops(n, () -> MatrixKernels.multiply(a, b, n, n, n, allCores));
+
+            report.append(String.format("%-6d %-14.2f %-16.2f %-24.2f %-24.2f%n",
+                n, naive, sequential, endpoint, parallel));
+            assertTrue(endpoint > 0);
+        }
+
+        servicePool.shutdownNow();
+        allCores.shutdownNow();
+
+        Files.createDirectories(Path.of("target", "benchmark"));
+        Files.writeString(Path.of("target", "benchmark", "matrix-multiply.txt"), report);
+        System.out.print(report);
+    }
+
+    /**
+     * Runs the kernel until it has been warmed up and timed for at least one second,
+     * and returns the best observed rate, counting 2n^3 floating-point operations per product.
+     */
+    private static double gflops(int n, Runnable kernel) {
+        double flops = 2.0 * n * n * n;
+        long bestNanos = Long.MAX_VALUE;
+        long budget = System.nanoTime() + 1_000_000_000L;
+        int runs = 0;
+        while (runs < 3 || System.nanoTime() < budget) {
+            long start = System.nanoTime();
+            kernel.run();
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+            runs++;
+        }
+        return flops / bestNanos;
+    }
+
+    private static double[] naiveMultiply(double[] a, double[] b, int n) {
+        double[] c = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                double sum = 0.0;
+                for (int p = 0; p < n; p++) {
+                    sum += a[i * n + p] * b[p * n + j];
+                }
+                c[i * n + j] = sum;
+            }
+        }
+        return c;
+    }
+
+    private static double[] random(int length, long seed) {
+        Random random = new Random(seed);
+        double[] data = new double[length];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = random.nextDouble();
+        }
+        return data;
+    }
+}
@@ -0,0 +1,67 @@
+package com.agilysys.calculator.warmup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LatencyStabilizer.
+ */
+@DisplayName("Latency Stabilizer Tests")
+class LatencyStabilizerTest {
+    
+    @Test
+    @DisplayName("Should compute the 99th percentile of a batch")
+    void testP99() {
+        long[] latencies = new long[100];
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = i + 1;
+        }
+        assertEquals(99, LatencyStabilizer.p99(latencies));
+        assertEquals(0, LatencyStabilizer.p99(new long[0]));
+    }
+    
+    @Test
+    @DisplayName("Should not report stable while latency keeps dropping")
+    void testRecord_Improving_NotStable() {
+        var stabilizer = new LatencyStabilizer(1, 2, 0.1);
+        
+        assertFalse(stabilizer.record(batchOf(1_000)));
+        assertFalse(stabilizer.record(batchOf(500)));
+        assertFalse(stabilizer.record(batchOf(250)));
+        assertFalse(stabilizer.record(batchOf(100)));
+    }
+    
+    @Test
+    @DisplayName("Should report stable after consecutive batches within tolerance")
+    void testRecord_Settled_Stable() {
+        var stabilizer = new LatencyStabilizer(1, 2, 0.1);
+        
+        assertFalse(stabilizer.record(batchOf(1_000)));
+        assertFalse(stabilizer.record(batchOf(100)));
+        assertFalse(stabilizer.record(batchOf(105)));
+        assertTrue(stabilizer.record(batchOf(98)));
+        assertEquals(4, stabilizer.batches());
+    }
+    
+    @Test
+    @DisplayName("Should wait for the minimum number of batches")
+    void testRecord_BelowMinBatches_NotStable() {
+        var stabilizer = new LatencyStabilizer(5, 1, 0.1);
+        
+        assertFalse(stabilizer.record(batchOf(100)));
+        assertFalse(stabilizer.record(batchOf(100)));
+        assertFalse(stabilizer.record(batchOf(100)));
+        assertFalse(stabilizer.record(batchOf(100)));
+        assertTrue(stabilizer.record(batchOf(100)));
+    }
+    
+    private static long[] batchOf(long latency) {
+        long[] batch = new long[10];
+        Arrays.fill(batch, latency);
+        return batch;
+    }
+}
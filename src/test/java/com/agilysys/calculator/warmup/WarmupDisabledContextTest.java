@@ -0,0 +1,42 @@
+package com.agilysys.calculator.warmup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Context test for starting the application with the warm-up disabled.
+ * The readiness group names the {@code warmup} contributor, so it must still exist and report UP.
+ */
+@SpringBootTest(properties = "calculator.warmup.enabled=false")
+@AutoConfigureMockMvc
+@DisplayName("Warm-up Disabled Context Tests")
+class WarmupDisabledContextTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private ApplicationContext context;
+    
+    @Test
+    @DisplayName("Should start without a warm-up runner and report ready")
+    void testReadiness_WarmupDisabled_ReportsUp() throws Exception {
+        // Assert
+        assertTrue(context.getBeansOfType(WarmupRunner.class).isEmpty());
+        assertEquals(1, context.getBeansOfType(WarmupHealthIndicator.class).size());
+        
+        // Act & Assert
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"));
+    }
+}
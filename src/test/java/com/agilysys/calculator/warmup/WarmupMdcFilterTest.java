@@ -0,0 +1,90 @@
+package com.agilysys.calculator.warmup;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import com.agilysys.calculator.config.WarmupProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for WarmupMdcFilter and WarmupLogFilter.
+ */
+@DisplayName("Warm-up Logging Tests")
+class WarmupMdcFilterTest {
+    
+    private final WarmupRunner runner = new WarmupRunner(
+        new WarmupProperties(true, Duration.ofSeconds(60), 500, 4, 5, 20_000, 3, 0.25, Duration.ofMillis(10)),
+        new GenericApplicationContext(), new ObjectMapper());
+    private final WarmupMdcFilter filter = new WarmupMdcFilter(runner);
+    
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+    
+    @Test
+    @DisplayName("Should mark requests carrying the warm-up token only while they are handled")
+    void testDoFilter_WarmupToken_SetsMdc() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(WarmupMdcFilter.WARMUP_HEADER, runner.token());
+        
+        assertEquals("true", mdcDuringChain(request));
+        assertNull(MDC.get(WarmupMdcFilter.MDC_KEY));
+    }
+    
+    @Test
+    @DisplayName("Should not mark loopback requests that send another header value")
+    void testDoFilter_WrongToken_DoesNotSetMdc() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("127.0.0.1");
+        request.addHeader(WarmupMdcFilter.WARMUP_HEADER, "true");
+        
+        assertNull(mdcDuringChain(request));
+    }
+    
+    @Test
+    @DisplayName("Should stop honouring the warm-up token once the warm-up has finished")
+    void testDoFilter_WarmupComplete_DoesNotSetMdc() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(WarmupMdcFilter.WARMUP_HEADER, runner.token());
+        
+        // Without an embedded web server the runner completes immediately
+        runner.run(null);
+        
+        assertTrue(runner.status().complete());
+        assertNull(mdcDuringChain(request));
+    }
+    
+    @Test
+    @DisplayName("Should drop warm-up log events below ERROR")
+    void testDecide_WarmupRequest_DropsBelowError() {
+        var logFilter = new WarmupLogFilter();
+        var logger = new LoggerContext().getLogger(WarmupMdcFilterTest.class);
+        
+        assertEquals(FilterReply.NEUTRAL, logFilter.decide(null, logger, Level.INFO, "message", null, null));
+        
+        MDC.put(WarmupMdcFilter.MDC_KEY, "true");
+        assertEquals(FilterReply.DENY, logFilter.decide(null, logger, Level.INFO, "message", null, null));
+        assertEquals(FilterReply.DENY, logFilter.decide(null, logger, Level.WARN, "message", null, null));
+        assertEquals(FilterReply.NEUTRAL, logFilter.decide(null, logger, Level.ERROR, "message", null, null));
+    }
+    
+    private String mdcDuringChain(MockHttpServletRequest request) throws Exception {
+        var seen = new AtomicReference<String>();
+        filter.doFilter(request, new MockHttpServletResponse(),
+            (req, res) -> seen.set(MDC.get(WarmupMdcFilter.MDC_KEY)));
+        return seen.get();
+    }
+}
@@ -0,0 +1,107 @@
+package com.agilysys.calculator.warmup;
+
+import com.agilysys.calculator.config.WarmupProperties;
+import com.agilysys.calculator.dto.CalculatorRequest;
+import com.agilysys.calculator.service.CalculatorService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.ApplicationContext;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+
+/**
+ * Tests for WarmupRunner against the running application.
+ * The context starts with the warm-up disabled; each test runs its own runner over the local port
+ * and checks the warm-up health component before and after.
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "calculator.warmup.enabled=false",
+        "logging.level.com.agilysys.calculator=WARN"
+    }
+)
+@DisplayName("Warm-up Runner Tests")
+class WarmupRunnerTest {
+    
+    @Autowired
+    private ApplicationContext context;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @SpyBean
+    private CalculatorService calculatorService;
+    
+    @AfterEach
+    void tearDown() {
+        // The runner refuses traffic while it warms up; Spring Boot accepts it again after start-up only
+        AvailabilityChangeEvent.publish(context, ReadinessState.ACCEPTING_TRAFFIC);
+    }
+    
+    @Test
+    @DisplayName("Should report OUT_OF_SERVICE until the warm-up has sent the minimum requests, then UP")
+    void testRun_HealthyStack_ReportsUpAfterWarmup() throws Exception {
+        // Arrange
+        WarmupRunner runner = runner();
+        WarmupHealthIndicator indicator = indicator(runner);
+        assertEquals(Status.OUT_OF_SERVICE, indicator.health().getStatus());
+        
+        // Act
+        runner.run(null);
+        
+        // Assert
+        WarmupStatus status = runner.status();
+        assertTrue(status.complete());
+        assertTrue(status.stabilized(), "warm-up hit its time limit: " + status);
+        assertTrue(status.requests() >= 1_000, "only " + status.requests() + " requests sent");
+        assertNull(status.failure());
+        assertEquals(Status.UP, indicator.health().getStatus());
+    }
+    
+    @Test
+    @DisplayName("Should fail the warm-up and stay OUT_OF_SERVICE when responses have an unexpected status")
+    void testRun_ServerErrors_StaysOutOfService() throws Exception {
+        // Arrange
+        doThrow(new IllegalStateException("Broken")).when(calculatorService).calculate(any(CalculatorRequest.class));
+        WarmupRunner runner = runner();
+        WarmupHealthIndicator indicator = indicator(runner);
+        
+        // Act
+        runner.run(null);
+        
+        // Assert
+        WarmupStatus status = runner.status();
+        assertTrue(status.complete());
+        assertFalse(status.stabilized());
+        assertTrue(status.failure().contains("status 500"), status.failure());
+        assertEquals(Status.OUT_OF_SERVICE, indicator.health().getStatus());
+        assertEquals(status.failure(), indicator.health().getDetails().get("failure"));
+    }
+    
+    private WarmupRunner runner() {
+        // A large tolerance and compilation allowance, so the request count decides when the warm-up ends
+        var properties = new WarmupProperties(
+            true, Duration.ofSeconds(60), 100, 2, 2, 1_000, 1, 10.0, Duration.ofHours(1));
+        return new WarmupRunner(properties, context, objectMapper);
+    }
+    
+    private static WarmupHealthIndicator indicator(WarmupRunner runner) {
+        return new WarmupHealthIndicator(
+            new StaticListableBeanFactory(Map.of("warmupRunner", runner)).getBeanProvider(WarmupRunner.class));
+    }
+}